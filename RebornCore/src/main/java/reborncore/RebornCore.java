@@ -40,6 +40,7 @@ import reborncore.api.blockentity.UnloadHandler;
 import reborncore.common.RebornCoreCommands;
 import reborncore.common.RebornCoreConfig;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
+import reborncore.common.blockentity.MultiblockTracker;
 import reborncore.common.blocks.BlockWrenchEventHandler;
 import reborncore.common.chunkloading.ChunkLoaderManager;
 import reborncore.common.config.Configuration;
@@ -47,6 +48,7 @@ import reborncore.common.crafting.ingredient.IngredientManager;
 import reborncore.common.misc.ModSounds;
 import reborncore.common.misc.RebornCoreTags;
 import reborncore.common.multiblock.MultiblockRegistry;
+import reborncore.common.network.BlockEntitySyncScheduler;
 import reborncore.common.network.ServerBoundPackets;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import reborncore.common.powerSystem.PowerSystem;
@@ -122,6 +124,9 @@ public class RebornCore implements ModInitializer {
 
 		ServerWorldEvents.LOAD.register((server, world) -> ChunkLoaderManager.get(world).onServerWorldLoad(world));
 		ServerTickEvents.START_WORLD_TICK.register(world -> ChunkLoaderManager.get(world).onServerWorldTick(world));
+		ServerTickEvents.END_WORLD_TICK.register(BlockEntitySyncScheduler::flush);
+		ServerWorldEvents.UNLOAD.register((server, world) -> BlockEntitySyncScheduler.onWorldUnload(world));
+		ServerWorldEvents.UNLOAD.register((server, world) -> MultiblockTracker.onWorldUnload(world));
 
 		FluidStorage.SIDED.registerFallback((world, pos, state, be, direction) -> {
 			if (be instanceof MachineBaseBlockEntity machineBase) {
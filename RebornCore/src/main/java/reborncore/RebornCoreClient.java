@@ -30,9 +30,12 @@ import net.fabricmc.fabric.api.client.item.v1.ItemTooltipCallback;
 import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
 import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
 import net.fabricmc.fabric.api.event.client.ClientSpriteRegistryCallback;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.minecraft.client.texture.SpriteAtlasTexture;
+import net.minecraft.resource.ResourceType;
 import reborncore.api.blockentity.UnloadHandler;
 import reborncore.client.*;
+import reborncore.client.multiblock.HologramCache;
 import reborncore.common.fluid.RebornFluidRenderManager;
 import reborncore.common.network.ClientBoundPacketHandlers;
 
@@ -45,7 +48,10 @@ public class RebornCoreClient implements ClientModInitializer {
 		ClientSpriteRegistryCallback.event(SpriteAtlasTexture.BLOCK_ATLAS_TEXTURE).register(IconSupplier::registerSprites);
 		ClientBoundPacketHandlers.init();
 		HudRenderCallback.EVENT.register(new ItemStackRenderer());
-		ItemTooltipCallback.EVENT.register(new StackToolTipHandler());
+		StackToolTipHandler stackToolTipHandler = new StackToolTipHandler();
+		ItemTooltipCallback.EVENT.register(stackToolTipHandler);
+		ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(stackToolTipHandler);
+		ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(new HologramCache());
 		WorldRenderEvents.BLOCK_OUTLINE.register(new BlockOutlineRenderer());
 
 		/* register UnloadHandler */
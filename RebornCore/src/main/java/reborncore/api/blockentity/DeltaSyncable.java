@@ -1,7 +1,7 @@
 /*
- * This file is part of TechReborn, licensed under the MIT License (MIT).
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
  *
- * Copyright (c) 2020 TechReborn
+ * Copyright (c) 2021 TeamReborn
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -22,27 +22,25 @@
  * SOFTWARE.
  */
 
-package techreborn.blockentity.cable;
+package reborncore.api.blockentity;
 
-import net.minecraft.util.math.Direction;
-import team.reborn.energy.api.EnergyStorage;
+import net.minecraft.network.PacketByteBuf;
+import reborncore.common.network.BlockEntitySyncScheduler;
 
 /**
- * EnergyStorage adjacent to an energy cable, with some additional info.
+ * A block entity that can update what clients display with a small delta instead of its full NBT.
+ * Queue an update with {@link BlockEntitySyncScheduler#markDirty}.
  */
-class OfferedEnergyStorage {
-	final CableBlockEntity sourceCable;
-	final Direction direction;
-	final EnergyStorage storage;
+public interface DeltaSyncable {
 
-	OfferedEnergyStorage(CableBlockEntity sourceCable, Direction direction, EnergyStorage storage) {
-		this.sourceCable = sourceCable;
-		this.direction = direction;
-		this.storage = storage;
-	}
+	/**
+	 * Called on the server when the queued update is sent.
+	 */
+	void writeDelta(PacketByteBuf buf);
+
+	/**
+	 * Called on the client thread with the data written by {@link #writeDelta(PacketByteBuf)}.
+	 */
+	void readDelta(PacketByteBuf buf);
 
-	void afterTransfer() {
-		// Block insertions from this side.
-		sourceCable.blockedSides |= 1 << direction.ordinal();
-	}
 }
@@ -25,6 +25,7 @@
 package reborncore.client;
 
 import net.fabricmc.fabric.api.client.item.v1.ItemTooltipCallback;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockEntityProvider;
 import net.minecraft.block.entity.BlockEntity;
@@ -34,11 +35,14 @@ import net.minecraft.client.resource.language.I18n;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.resource.ResourceManager;
 import net.minecraft.text.LiteralText;
 import net.minecraft.text.MutableText;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
+import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.Nullable;
 import reborncore.RebornCore;
 import reborncore.api.IListInfoProvider;
 import reborncore.common.BaseBlockEntityProvider;
@@ -46,9 +50,27 @@ import reborncore.common.powerSystem.PowerSystem;
 import reborncore.common.powerSystem.RcEnergyItem;
 import reborncore.common.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
-public class StackToolTipHandler implements ItemTooltipCallback {
+public class StackToolTipHandler implements ItemTooltipCallback, SimpleSynchronousResourceReloadListener {
+
+	private static final int MAX_CACHED_TOOLTIPS = 256;
+
+	/**
+	 * The block entity info lines of the recently shown items, least recently used first.
+	 * Cleared on resource reload as the lines are translated.
+	 * Synchronized as tooltips are also built off thread, for example by item list search, and access order makes get() a write.
+	 */
+	private final Map<TooltipKey, List<Text>> blockEntityTooltips = Collections.synchronizedMap(new LinkedHashMap<TooltipKey, List<Text>>(64, 0.75F, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<TooltipKey, List<Text>> eldest) {
+			return size() > MAX_CACHED_TOOLTIPS;
+		}
+	});
 
 	@Override
 	public void getTooltip(ItemStack itemStack, TooltipContext tooltipContext, List<Text> tooltipLines) {
@@ -101,27 +123,52 @@ public class StackToolTipHandler implements ItemTooltipCallback {
 				tooltipLines.add(3, line3);
 			}
 		}
-		else {
-			try {
-				if ((block instanceof BaseBlockEntityProvider)) {
-					BlockEntity blockEntity = ((BlockEntityProvider) block).createBlockEntity(BlockPos.ORIGIN, block.getDefaultState());
-					boolean hasData = false;
-					if (itemStack.hasNbt() && itemStack.getOrCreateNbt().contains("blockEntity_data")) {
-						NbtCompound blockEntityData = itemStack.getOrCreateNbt().getCompound("blockEntity_data");
-						if (blockEntity != null) {
-							blockEntity.readNbt(blockEntityData);
-							hasData = true;
-							tooltipLines.add(new LiteralText(I18n.translate("reborncore.tooltip.has_data")).formatted(Formatting.DARK_GREEN));
-						}
-					}
-					if (blockEntity instanceof IListInfoProvider) {
-						((IListInfoProvider) blockEntity).addInfo(tooltipLines, false, hasData);
-					}
+		else if (block instanceof BaseBlockEntityProvider) {
+			NbtCompound blockEntityData = null;
+			if (itemStack.hasNbt() && itemStack.getNbt().contains("blockEntity_data")) {
+				blockEntityData = itemStack.getNbt().getCompound("blockEntity_data");
+			}
+			// Some machines show extra lines while a modifier key is held
+			int modifiers = (Screen.hasShiftDown() ? 1 : 0) | (Screen.hasControlDown() ? 2 : 0);
+
+			List<Text> lines = blockEntityTooltips.get(new TooltipKey(item, blockEntityData, modifiers));
+			if (lines == null) {
+				lines = getBlockEntityTooltip(itemStack, block, blockEntityData);
+				blockEntityTooltips.put(new TooltipKey(item, blockEntityData == null ? null : blockEntityData.copy(), modifiers), lines);
+			}
+			tooltipLines.addAll(lines);
+		}
+	}
+
+	private List<Text> getBlockEntityTooltip(ItemStack itemStack, Block block, @Nullable NbtCompound blockEntityData) {
+		List<Text> lines = new ArrayList<>();
+		try {
+			BlockEntity blockEntity = ((BlockEntityProvider) block).createBlockEntity(BlockPos.ORIGIN, block.getDefaultState());
+			boolean hasData = false;
+			if (blockEntityData != null) {
+				if (blockEntity != null) {
+					blockEntity.readNbt(blockEntityData);
+					hasData = true;
+					lines.add(new LiteralText(I18n.translate("reborncore.tooltip.has_data")).formatted(Formatting.DARK_GREEN));
 				}
-			} catch (NullPointerException e) {
-				RebornCore.LOGGER.debug("Failed to load info for " + itemStack.getName());
 			}
+			if (blockEntity instanceof IListInfoProvider) {
+				((IListInfoProvider) blockEntity).addInfo(lines, false, hasData);
+			}
+		} catch (NullPointerException e) {
+			RebornCore.LOGGER.debug("Failed to load info for " + itemStack.getName());
 		}
+		return lines;
+	}
+
+	@Override
+	public Identifier getFabricId() {
+		return new Identifier("reborncore", "stack_tooltip_handler");
+	}
+
+	@Override
+	public void reload(ResourceManager manager) {
+		blockEntityTooltips.clear();
 	}
 
 	private int percentage(double CurrentValue, double MaxValue) {
@@ -129,4 +176,7 @@ public class StackToolTipHandler implements ItemTooltipCallback {
 			return 0;
 		return (int) ((CurrentValue * 100.0f) / MaxValue);
 	}
+
+	private record TooltipKey(Item item, @Nullable NbtCompound blockEntityData, int modifiers) {
+	}
 }
@@ -0,0 +1,135 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2021 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package reborncore.client.multiblock;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.client.gl.VertexBuffer;
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Matrix4f;
+import reborncore.common.blockentity.MachineBaseBlockEntity;
+import reborncore.common.blockentity.MultiblockWriter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bakes multiblock holograms into vertex buffers, so that they are only built once per machine type, facing and
+ * {@link MachineBaseBlockEntity#getMultiblockVariant() variant} instead of every frame.
+ * Cleared on resource reload as the baked geometry refers to the block atlas.
+ */
+public class HologramCache implements SimpleSynchronousResourceReloadListener {
+
+	private static final float SCALE = 0.4F;
+	private static final Map<Key, List<BakedLayer>> HOLOGRAMS = new HashMap<>();
+	// Builders are off heap and never freed, so like vanilla's BlockBufferBuilderStorage one is kept per layer and reused for every bake
+	private static final Map<RenderLayer, BufferBuilder> BUILDERS = new HashMap<>();
+
+	/**
+	 * Draws the hologram of the given machine, baking it first if needed
+	 *
+	 * @param blockEntity Machine to draw the multiblock hologram of
+	 * @param matrixStack Matrices positioned at the machine
+	 */
+	public static void draw(MachineBaseBlockEntity blockEntity, MatrixStack matrixStack) {
+		Direction facing = blockEntity.getFacing();
+		Key key = new Key(blockEntity.getType(), facing, blockEntity.getMultiblockVariant());
+		List<BakedLayer> layers = HOLOGRAMS.computeIfAbsent(key, k -> bake(blockEntity, facing));
+		if (layers.isEmpty()) {
+			return;
+		}
+
+		Matrix4f modelView = RenderSystem.getModelViewMatrix().copy();
+		modelView.multiply(matrixStack.peek().getPositionMatrix());
+		for (BakedLayer layer : layers) {
+			layer.renderLayer.startDrawing();
+			layer.buffer.setShader(modelView, RenderSystem.getProjectionMatrix(), RenderSystem.getShader());
+			layer.renderLayer.endDrawing();
+		}
+	}
+
+	private static List<BakedLayer> bake(MachineBaseBlockEntity blockEntity, Direction facing) {
+		BakingConsumers consumers = new BakingConsumers();
+		blockEntity.writeMultiblock(new MultiblockWriter.HologramRenderer(blockEntity.getWorld(), new MatrixStack(), consumers, SCALE).rotate(facing.getOpposite()));
+
+		List<BakedLayer> layers = new ArrayList<>(consumers.builders.size());
+		consumers.builders.forEach((renderLayer, builder) -> {
+			builder.end();
+			VertexBuffer buffer = new VertexBuffer();
+			buffer.upload(builder);
+			layers.add(new BakedLayer(renderLayer, buffer));
+		});
+		return layers;
+	}
+
+	@Override
+	public Identifier getFabricId() {
+		return new Identifier("reborncore", "hologram_cache");
+	}
+
+	@Override
+	public void reload(ResourceManager manager) {
+		HOLOGRAMS.values().forEach(layers -> layers.forEach(layer -> layer.buffer.close()));
+		HOLOGRAMS.clear();
+	}
+
+	private record Key(BlockEntityType<?> type, Direction facing, int variant) {
+	}
+
+	private record BakedLayer(RenderLayer renderLayer, VertexBuffer buffer) {
+	}
+
+	/**
+	 * Collects everything written to it into one buffer per render layer
+	 */
+	private static class BakingConsumers implements VertexConsumerProvider {
+		private final Map<RenderLayer, BufferBuilder> builders = new LinkedHashMap<>();
+
+		@Override
+		public VertexConsumer getBuffer(RenderLayer renderLayer) {
+			return builders.computeIfAbsent(renderLayer, layer -> {
+				BufferBuilder builder = BUILDERS.computeIfAbsent(layer, l -> new BufferBuilder(l.getExpectedBufferSize()));
+				if (builder.isBuilding()) {
+					// Left over from a bake that failed part way through
+					builder.end();
+					builder.popData();
+				}
+				builder.begin(layer.getDrawMode(), layer.getVertexFormat());
+				return builder;
+			});
+		}
+	}
+}
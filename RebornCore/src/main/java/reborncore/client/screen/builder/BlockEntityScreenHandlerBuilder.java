@@ -50,7 +50,15 @@ import reborncore.common.fluid.FluidUtils;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import team.reborn.energy.api.EnergyStorageUtil;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -143,12 +151,40 @@ public class BlockEntityScreenHandlerBuilder {
 	 * @return ContainerTileInventoryBuilder Inventory which will do the sync
 	 */
 	public <T> BlockEntityScreenHandlerBuilder sync(final Supplier<T> supplier, final Consumer<T> setter) {
-		this.parent.objectValues.add(Pair.of(supplier, setter));
+		this.parent.syncSlots.add(new SyncSlot.ObjectSlot(supplier, setter));
+		return this;
+	}
+
+	/**
+	 * Same as {@link #sync(Supplier, Consumer)} for an int, the value is compared and sent without boxing.
+	 */
+	public BlockEntityScreenHandlerBuilder syncInt(final IntSupplier supplier, final IntConsumer setter) {
+		this.parent.syncSlots.add(new SyncSlot.IntSlot(supplier, setter));
+		return this;
+	}
+
+	/**
+	 * Same as {@link #sync(Supplier, Consumer)} for a long, the value is compared and sent without boxing.
+	 */
+	public BlockEntityScreenHandlerBuilder syncLong(final LongSupplier supplier, final LongConsumer setter) {
+		this.parent.syncSlots.add(new SyncSlot.LongSlot(supplier, setter));
+		return this;
+	}
+
+	/**
+	 * Same as {@link #sync(Supplier, Consumer)} for a double, the value is compared and sent without boxing.
+	 */
+	public BlockEntityScreenHandlerBuilder syncDouble(final DoubleSupplier supplier, final DoubleConsumer setter) {
+		this.parent.syncSlots.add(new SyncSlot.DoubleSlot(supplier, setter));
 		return this;
 	}
 
 	public BlockEntityScreenHandlerBuilder sync(Syncable syncable) {
-		syncable.getSyncPair(this.parent.objectValues);
+		List<Pair<Supplier<?>, Consumer<?>>> pairs = new ArrayList<>();
+		syncable.getSyncPair(pairs);
+		for (Pair<Supplier<?>, Consumer<?>> pair : pairs) {
+			this.parent.syncSlots.add(new SyncSlot.ObjectSlot(pair.getLeft(), pair.getRight()));
+		}
 		return this;
 	}
 
@@ -171,9 +207,9 @@ public class BlockEntityScreenHandlerBuilder {
 	public BlockEntityScreenHandlerBuilder syncEnergyValue() {
 		if (this.blockEntity instanceof PowerAcceptorBlockEntity powerAcceptor) {
 
-			return this.sync(powerAcceptor::getEnergy, powerAcceptor::setEnergy)
-					.sync(powerAcceptor::getExtraPowerStorage, powerAcceptor::setExtraPowerStorage)
-					.sync(powerAcceptor::getPowerChange, powerAcceptor::setPowerChange);
+			return this.syncLong(powerAcceptor::getEnergy, powerAcceptor::setEnergy)
+					.syncLong(powerAcceptor::getExtraPowerStorage, powerAcceptor::setExtraPowerStorage)
+					.syncLong(powerAcceptor::getPowerChange, powerAcceptor::setPowerChange);
 		}
 
 		RebornCore.LOGGER.error(this.inventory + " is not an instance of TilePowerAcceptor! Energy cannot be synced.");
@@ -183,8 +219,8 @@ public class BlockEntityScreenHandlerBuilder {
 	public BlockEntityScreenHandlerBuilder syncCrafterValue() {
 		if (this.blockEntity instanceof IRecipeCrafterProvider recipeCrafter) {
 			return this
-					.sync(() -> recipeCrafter.getRecipeCrafter().currentTickTime, (time) -> recipeCrafter.getRecipeCrafter().currentTickTime = time)
-					.sync(() -> recipeCrafter.getRecipeCrafter().currentNeededTicks, (ticks) -> recipeCrafter.getRecipeCrafter().currentNeededTicks = ticks);
+					.syncInt(() -> recipeCrafter.getRecipeCrafter().currentTickTime, (time) -> recipeCrafter.getRecipeCrafter().currentTickTime = time)
+					.syncInt(() -> recipeCrafter.getRecipeCrafter().currentNeededTicks, (ticks) -> recipeCrafter.getRecipeCrafter().currentNeededTicks = ticks);
 		}
 
 		RebornCore.LOGGER.error(this.inventory + " is not an instance of IRecipeCrafterProvider! Craft progress cannot be synced.");
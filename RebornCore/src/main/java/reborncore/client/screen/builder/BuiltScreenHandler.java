@@ -25,7 +25,7 @@
 package reborncore.client.screen.builder;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.inventory.CraftingInventory;
 import net.minecraft.inventory.Inventory;
@@ -41,14 +41,15 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
 import reborncore.common.network.ClientBoundPackets;
+import reborncore.common.network.ExtendedPacketBuffer;
+import reborncore.common.network.IdentifiedPacket;
 import reborncore.common.network.NetworkManager;
 import reborncore.common.util.ItemUtils;
 import reborncore.mixin.common.AccessorScreenHandler;
 import reborncore.mixin.ifaces.ServerPlayerEntityScreenHandler;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -62,9 +63,11 @@ public class BuiltScreenHandler extends ScreenHandler {
 	private final List<Range<Integer>> playerSlotRanges;
 	private final List<Range<Integer>> blockEntitySlotRanges;
 
-	// Holds the syncpair along with the last value
-	private final Map<SyncPair, Object> syncPairCache = new HashMap<>();
-	private final Int2ObjectMap<SyncPair> syncPairIdLookup = new Int2ObjectOpenHashMap<>();
+	// The id of a sync slot is its index + 1
+	private final List<SyncSlot> syncSlots = new ArrayList<>();
+	// Indexes of the sync slots that changed since the last packet, reused every tick
+	private final IntArrayList changedSyncSlots = new IntArrayList();
+	private final Consumer<ExtendedPacketBuffer> changedValuesWriter = this::writeChangedValues;
 
 	private List<Consumer<CraftingInventory>> craftEvents;
 	private Integer[] integerParts;
@@ -87,14 +90,14 @@ public class BuiltScreenHandler extends ScreenHandler {
 
 	public void addObjectSync(final List<Pair<Supplier<?>, Consumer<?>>> syncables) {
 		for (final Pair<Supplier<?>, Consumer<?>> syncable : syncables) {
-			// Add a new sync pair to the cache with a null value
-			int id = syncPairCache.size() + 1;
-			var syncPair = new SyncPair(syncable.getLeft(), syncable.getRight(), id);
-			this.syncPairCache.put(syncPair, null);
-			this.syncPairIdLookup.put(id, syncPair);
+			this.syncSlots.add(new SyncSlot.ObjectSlot(syncable.getLeft(), syncable.getRight()));
 		}
 	}
 
+	void addSyncSlots(final List<SyncSlot> syncSlots) {
+		this.syncSlots.addAll(syncSlots);
+	}
+
 	public void addCraftEvents(final List<Consumer<CraftingInventory>> craftEvents) {
 		this.craftEvents = craftEvents;
 	}
@@ -115,57 +118,65 @@ public class BuiltScreenHandler extends ScreenHandler {
 	public void sendContentUpdates() {
 		super.sendContentUpdates();
 
-		for (final ScreenHandlerListener listener : ((AccessorScreenHandler) (this)).getListeners()) {
-			sendContentUpdatePacketToListener(listener);
-		}
+		sendChangedValues();
 	}
 
 	@Override
 	public void addListener(final ScreenHandlerListener listener) {
 		super.addListener(listener);
 
-		sendContentUpdatePacketToListener(listener);
+		// The new listener needs every value, the others will receive them again
+		for (SyncSlot syncSlot : syncSlots) {
+			syncSlot.resend();
+		}
+		sendChangedValues();
 	}
 
-	private void sendContentUpdatePacketToListener(final ScreenHandlerListener listener) {
-		Int2ObjectMap<Object> updatedValues = new Int2ObjectOpenHashMap<>();
+	private void sendChangedValues() {
+		List<ScreenHandlerListener> listeners = ((AccessorScreenHandler) (this)).getListeners();
+		if (listeners.isEmpty()) {
+			return;
+		}
 
-		this.syncPairCache.replaceAll((syncPair, cached) -> {
-			final Object value = syncPair.supplier().get();
+		changedSyncSlots.clear();
+		for (int i = 0; i < syncSlots.size(); i++) {
+			if (syncSlots.get(i).update()) {
+				changedSyncSlots.add(i);
+			}
+		}
+		if (changedSyncSlots.isEmpty()) {
+			return;
+		}
 
-			if (value != cached) {
-				updatedValues.put(syncPair.id, value);
-				return value;
+		IdentifiedPacket packet = ClientBoundPackets.createPacketSendObject(this, changedSyncSlots.size(), changedValuesWriter);
+		for (final ScreenHandlerListener listener : listeners) {
+			if (listener instanceof ServerPlayerEntityScreenHandler serverPlayerEntityScreenHandler) {
+				NetworkManager.sendToPlayer(packet, serverPlayerEntityScreenHandler.rc_getServerPlayerEntity());
 			}
-			return null;
-		});
+		}
+	}
 
-		sendUpdatedValues(listener, this, updatedValues);
+	private void writeChangedValues(ExtendedPacketBuffer buffer) {
+		for (int i = 0; i < changedSyncSlots.size(); i++) {
+			int index = changedSyncSlots.getInt(i);
+			buffer.writeInt(index + 1);
+			syncSlots.get(index).write(buffer);
+		}
 	}
 
 	public void handleUpdateValues(Int2ObjectMap<Object> updatedValues) {
 		updatedValues.int2ObjectEntrySet().forEach(entry -> {
-			SyncPair syncPair = syncPairIdLookup.get(entry.getIntKey());
-			if (syncPair == null) {
+			int index = entry.getIntKey() - 1;
+			if (index < 0 || index >= syncSlots.size()) {
 				LOGGER.warn("Unknown sync pair id: " + entry.getIntKey());
 				return;
 			}
 
 			// TODO check the object type here?
-			syncPair.consumer().accept(entry.getValue());
+			syncSlots.get(index).apply(entry.getValue());
 		});
 	}
 
-	private void sendUpdatedValues(ScreenHandlerListener screenHandlerListener, ScreenHandler screenHandler, Int2ObjectMap<Object> updatedValues) {
-		if (updatedValues.isEmpty()) {
-			return;
-		}
-
-		if (screenHandlerListener instanceof ServerPlayerEntityScreenHandler serverPlayerEntityScreenHandler) {
-			NetworkManager.sendToPlayer(ClientBoundPackets.createPacketSendObject(screenHandler, updatedValues), serverPlayerEntityScreenHandler.rc_getServerPlayerEntity());
-		}
-	}
-
 	@Override
 	public ItemStack transferSlot(final PlayerEntity player, final int index) {
 
@@ -313,8 +324,4 @@ public class BuiltScreenHandler extends ScreenHandler {
 	public ScreenHandlerType<BuiltScreenHandler> getType() {
 		return type;
 	}
-
-	private record SyncPair(Supplier supplier, Consumer consumer, int id) {
-
-	}
 }
@@ -31,14 +31,12 @@ import net.minecraft.inventory.CraftingInventory;
 import net.minecraft.screen.slot.Slot;
 import net.minecraft.util.math.Vec3d;
 import org.apache.commons.lang3.Range;
-import org.apache.commons.lang3.tuple.Pair;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
 
 public class ScreenHandlerBuilder {
 
@@ -47,7 +45,7 @@ public class ScreenHandlerBuilder {
 	final List<Slot> slots;
 	final List<Range<Integer>> playerInventoryRanges, blockEntityInventoryRanges;
 
-	final List<Pair<Supplier<?>, Consumer<?>>> objectValues;
+	final List<SyncSlot> syncSlots;
 
 	final List<Consumer<CraftingInventory>> craftEvents;
 
@@ -59,7 +57,7 @@ public class ScreenHandlerBuilder {
 		this.playerInventoryRanges = new ArrayList<>();
 		this.blockEntityInventoryRanges = new ArrayList<>();
 
-		this.objectValues = new ArrayList<>();
+		this.syncSlots = new ArrayList<>();
 
 		this.craftEvents = new ArrayList<>();
 	}
@@ -89,8 +87,8 @@ public class ScreenHandlerBuilder {
 		final BuiltScreenHandler built = new BuiltScreenHandler(syncID, this.name, isUsable(blockEntity),
 				this.playerInventoryRanges,
 				this.blockEntityInventoryRanges, blockEntity);
-		if (!this.objectValues.isEmpty())
-			built.addObjectSync(objectValues);
+		if (!this.syncSlots.isEmpty())
+			built.addSyncSlots(syncSlots);
 		if (!this.craftEvents.isEmpty()) {
 			built.addCraftEvents(this.craftEvents);
 		}
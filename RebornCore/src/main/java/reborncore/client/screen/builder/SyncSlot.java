@@ -0,0 +1,206 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2021 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package reborncore.client.screen.builder;
+
+import reborncore.common.network.ExtendedPacketBuffer;
+import reborncore.common.network.ObjectBufferUtils;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A value synced from the server to the client by a {@link BuiltScreenHandler}.
+ * <p>
+ * Slots remember the last value sent and compare by value, so only the values that actually changed are sent.
+ * The primitive slots do this without boxing the value.
+ */
+abstract class SyncSlot {
+	private boolean sent;
+
+	/**
+	 * Polls the current value on the server.
+	 *
+	 * @return true if the value changed since it was last sent
+	 */
+	boolean update() {
+		if (!sent) {
+			sent = true;
+			poll();
+			return true;
+		}
+		return poll();
+	}
+
+	/**
+	 * Forces the next {@link #update()} to report a change, used when a new listener has to receive every value.
+	 */
+	void resend() {
+		sent = false;
+	}
+
+	/**
+	 * Reads the current value and stores it.
+	 *
+	 * @return true if it differs from the stored value
+	 */
+	protected abstract boolean poll();
+
+	abstract void write(ExtendedPacketBuffer buffer);
+
+	abstract void apply(Object value);
+
+	static class ObjectSlot extends SyncSlot {
+		private final Supplier supplier;
+		private final Consumer consumer;
+		private Object value;
+
+		ObjectSlot(Supplier<?> supplier, Consumer<?> consumer) {
+			this.supplier = supplier;
+			this.consumer = consumer;
+		}
+
+		@Override
+		protected boolean poll() {
+			Object current = supplier.get();
+			if (Objects.equals(current, value)) {
+				return false;
+			}
+			value = current;
+			return true;
+		}
+
+		@Override
+		void write(ExtendedPacketBuffer buffer) {
+			ObjectBufferUtils.writeObject(value, buffer);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		void apply(Object value) {
+			consumer.accept(value);
+		}
+	}
+
+	static class IntSlot extends SyncSlot {
+		private final IntSupplier supplier;
+		private final IntConsumer consumer;
+		private int value;
+
+		IntSlot(IntSupplier supplier, IntConsumer consumer) {
+			this.supplier = supplier;
+			this.consumer = consumer;
+		}
+
+		@Override
+		protected boolean poll() {
+			int current = supplier.getAsInt();
+			if (current == value) {
+				return false;
+			}
+			value = current;
+			return true;
+		}
+
+		@Override
+		void write(ExtendedPacketBuffer buffer) {
+			ObjectBufferUtils.writeInt(value, buffer);
+		}
+
+		@Override
+		void apply(Object value) {
+			consumer.accept((Integer) value);
+		}
+	}
+
+	static class LongSlot extends SyncSlot {
+		private final LongSupplier supplier;
+		private final LongConsumer consumer;
+		private long value;
+
+		LongSlot(LongSupplier supplier, LongConsumer consumer) {
+			this.supplier = supplier;
+			this.consumer = consumer;
+		}
+
+		@Override
+		protected boolean poll() {
+			long current = supplier.getAsLong();
+			if (current == value) {
+				return false;
+			}
+			value = current;
+			return true;
+		}
+
+		@Override
+		void write(ExtendedPacketBuffer buffer) {
+			ObjectBufferUtils.writeLong(value, buffer);
+		}
+
+		@Override
+		void apply(Object value) {
+			consumer.accept((Long) value);
+		}
+	}
+
+	static class DoubleSlot extends SyncSlot {
+		private final DoubleSupplier supplier;
+		private final DoubleConsumer consumer;
+		private double value;
+
+		DoubleSlot(DoubleSupplier supplier, DoubleConsumer consumer) {
+			this.supplier = supplier;
+			this.consumer = consumer;
+		}
+
+		@Override
+		protected boolean poll() {
+			double current = supplier.getAsDouble();
+			// Compare the bits so NaN does not get sent every tick
+			if (Double.doubleToLongBits(current) == Double.doubleToLongBits(value)) {
+				return false;
+			}
+			value = current;
+			return true;
+		}
+
+		@Override
+		void write(ExtendedPacketBuffer buffer) {
+			ObjectBufferUtils.writeDouble(value, buffer);
+		}
+
+		@Override
+		void apply(Object value) {
+			consumer.accept((Double) value);
+		}
+	}
+}
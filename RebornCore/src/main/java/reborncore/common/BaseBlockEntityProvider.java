@@ -36,6 +36,7 @@ import net.minecraft.nbt.NbtCompound;
 import net.minecraft.util.collection.DefaultedList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import reborncore.common.blockentity.MachineBaseBlockEntity;
 
 import java.util.Optional;
 
@@ -71,6 +72,15 @@ public abstract class BaseBlockEntityProvider extends Block implements BlockEnti
 		}
 	}
 
+	@SuppressWarnings("deprecation")
+	@Override
+	public void neighborUpdate(BlockState state, World world, BlockPos pos, Block block, BlockPos fromPos, boolean notify) {
+		super.neighborUpdate(state, world, pos, block, fromPos, notify);
+		if (world.getBlockEntity(pos) instanceof MachineBaseBlockEntity machine) {
+			machine.onNeighborUpdate(fromPos);
+		}
+	}
+
 	public <T extends BlockEntity> BlockEntityTicker<T> getTicker(World world, BlockState state, BlockEntityType<T> type) {
 		return (world1, pos, state1, blockEntity) -> {
 			if (blockEntity instanceof BlockEntityTicker) {
@@ -48,6 +48,7 @@ import net.minecraft.text.LiteralText;
 import net.minecraft.util.registry.Registry;
 import net.minecraft.world.chunk.ChunkStatus;
 import reborncore.client.ItemStackRenderManager;
+import reborncore.common.recipes.RecipeCrafter;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -97,6 +98,12 @@ public class RebornCoreCommands {
 							)
 					)
 
+					.then(
+						literal("recipescans")
+							.requires(source -> source.hasPermissionLevel(3))
+							.executes(RebornCoreCommands::recipeScans)
+					)
+
 					.then(
 						literal("render")
 							.then(
@@ -153,6 +160,12 @@ public class RebornCoreCommands {
 		return Command.SINGLE_SUCCESS;
 	}
 
+	private static int recipeScans(CommandContext<ServerCommandSource> ctx) {
+		ctx.getSource().sendFeedback(new LiteralText(String.format("%d recipe scans during the last tick", RecipeCrafter.getRecipeScansLastTick())), false);
+
+		return Command.SINGLE_SUCCESS;
+	}
+
 	private static int renderMod(CommandContext<ServerCommandSource> ctx) {
 		String modid = StringArgumentType.getString(ctx, "modid");
 
@@ -24,12 +24,13 @@
 
 package reborncore.common.blockentity;
 
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiCache;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidStorage;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
 import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
 import net.fabricmc.fabric.api.transfer.v1.storage.StorageUtil;
 import net.minecraft.nbt.NbtCompound;
-import net.minecraft.util.math.BlockPos;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Direction;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -42,9 +43,17 @@ import java.util.List;
 
 public class FluidConfiguration implements NBTSerializable {
 
+	private static final Direction[] DIRECTIONS = Direction.values();
+
 	HashMap<Direction, FluidConfig> sideMap;
 	boolean input, output;
 
+	/**
+	 * Caches of the adjacent fluid storages, created on first use and indexed by {@link Direction#ordinal()}.
+	 */
+	@SuppressWarnings("unchecked")
+	private final BlockApiCache<Storage<FluidVariant>, Direction>[] neighborFluidCaches = new BlockApiCache[6];
+
 	public FluidConfiguration() {
 		sideMap = new HashMap<>();
 		Arrays.stream(Direction.values()).forEach(facing -> sideMap.put(facing, new FluidConfig(facing)));
@@ -78,7 +87,7 @@ public class FluidConfiguration implements NBTSerializable {
 		if (machineBase.getTank() == null || machineBase.getWorld().getTime() % machineBase.slotTransferSpeed() != 0) {
 			return;
 		}
-		for (Direction facing : Direction.values()) {
+		for (Direction facing : DIRECTIONS) {
 			FluidConfig fluidConfig = getSideDetail(facing);
 			if (fluidConfig == null || !fluidConfig.getIoConfig().isEnabled()) {
 				continue;
@@ -86,6 +95,9 @@ public class FluidConfiguration implements NBTSerializable {
 
 			@Nullable
 			Storage<FluidVariant> tank = getTank(machineBase, facing);
+			if (tank == null) {
+				continue;
+			}
 			if (autoInput() && fluidConfig.getIoConfig().isInsert()) {
 				StorageUtil.move(tank, machineBase.getTank(), fv -> true, machineBase.fluidTransferAmount().getRawValue(), null);
 			}
@@ -97,8 +109,12 @@ public class FluidConfiguration implements NBTSerializable {
 
 	@Nullable
 	private Storage<FluidVariant> getTank(MachineBaseBlockEntity machine, Direction facing) {
-		BlockPos pos = machine.getPos().offset(facing);
-		return FluidStorage.SIDED.find(machine.getWorld(), pos, facing.getOpposite());
+		BlockApiCache<Storage<FluidVariant>, Direction> cache = neighborFluidCaches[facing.ordinal()];
+		if (cache == null) {
+			cache = BlockApiCache.create(FluidStorage.SIDED, (ServerWorld) machine.getWorld(), machine.getPos().offset(facing));
+			neighborFluidCaches[facing.ordinal()] = cache;
+		}
+		return cache.find(facing.getOpposite());
 	}
 
 	public boolean autoInput() {
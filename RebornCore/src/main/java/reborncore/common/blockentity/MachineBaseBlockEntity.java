@@ -39,6 +39,7 @@ import net.minecraft.network.packet.s2c.play.BlockEntityUpdateS2CPacket;
 import net.minecraft.text.LiteralText;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
+import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
@@ -60,7 +61,6 @@ import reborncore.common.util.RebornInventory;
 import reborncore.common.util.Tank;
 
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -75,6 +75,15 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 
 	public boolean renderMultiblock = false;
 
+	// Cached result of the multiblock verification, synced to the client
+	private boolean multiblockValid = false;
+	private boolean multiblockDirty = true;
+	@Nullable
+	private Direction multiblockFacing;
+	// Bounds registered in the MultiblockTracker
+	@Nullable
+	BlockBox multiblockBounds;
+
 	private int ticktime = 0;
 
 	/**
@@ -96,14 +105,73 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 		redstoneConfiguration = new RedstoneConfiguration(this);
 	}
 
+	/**
+	 * Checks the blocks of the multiblock written by {@link #writeMultiblock(MultiblockWriter)}.
+	 * <p>
+	 * The result is cached on the server until a block changes inside the multiblock bounds, the facing changes
+	 * or {@link #invalidateMultiblock()} is called. The client uses the result synced from the server.
+	 *
+	 * @return true if the multiblock is complete
+	 */
 	public boolean isMultiblockValid() {
+		if (world == null || world.isClient) {
+			return multiblockValid;
+		}
+
+		Direction facing = getFacing();
+		if (multiblockDirty || facing != multiblockFacing) {
+			verifyMultiblock(facing);
+		}
+		return multiblockValid;
+	}
+
+	private void verifyMultiblock(Direction facing) {
+		multiblockDirty = false;
+		multiblockFacing = facing;
+
 		MultiblockWriter.MultiblockVerifier verifier = new MultiblockWriter.MultiblockVerifier(getPos(), getWorld());
-		writeMultiblock(verifier.rotate(getFacing().getOpposite()));
-		return verifier.isValid();
+		writeMultiblock(verifier.rotate(facing.getOpposite()));
+		MultiblockTracker.track(this, verifier.getBounds());
+
+		if (verifier.isValid() != multiblockValid) {
+			multiblockValid = verifier.isValid();
+			// Recipes check the multiblock in canCraft
+			markRecipeDirty();
+			if (multiblockBounds != null) {
+				NetworkManager.sendToTracking(ClientBoundPackets.createPacketMultiblockSync(getPos(), multiblockValid), this);
+			}
+		}
+	}
+
+	/**
+	 * Makes the next {@link #isMultiblockValid()} check the multiblock again.
+	 * Call this when {@link #writeMultiblock(MultiblockWriter)} changes, block changes are already handled.
+	 */
+	public void invalidateMultiblock() {
+		multiblockDirty = true;
+	}
+
+	/**
+	 * Sets the multiblock state received from the server
+	 *
+	 * @param valid boolean If the multiblock is complete
+	 */
+	public void setMultiblockValid(boolean valid) {
+		multiblockValid = valid;
 	}
 
 	public void writeMultiblock(MultiblockWriter writer) {}
 
+	/**
+	 * Identifies which multiblock {@link #writeMultiblock(MultiblockWriter)} writes, for machines where it depends
+	 * on their state. Machines of the same type, facing and variant share their baked hologram.
+	 *
+	 * @return int Variant of the multiblock
+	 */
+	public int getMultiblockVariant() {
+		return 0;
+	}
+
 	public void syncWithAll() {
 		if (world == null || world.isClient) { return; }
 		NetworkManager.sendToTracking(ClientBoundPackets.createCustomDescriptionPacket(this), this);
@@ -134,6 +202,7 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 		NbtCompound compound = new NbtCompound();
 		super.writeNbt(compound);
 		writeNbt(compound);
+		compound.putBoolean("multiblockValid", multiblockValid);
 		return compound;
 	}
 
@@ -158,9 +227,18 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 			}
 			afterUpgradesApplication();
 		}
+		if (upgradeInventory.hasChanged()) {
+			upgradeInventory.resetHasChanged();
+			// The speed and power upgrades change the recipe timing and energy usage.
+			markRecipeDirty();
+		}
 		if (world == null || world.isClient) {
 			return;
 		}
+		// Checked on the first tick and after the multiblock changed, so the client and the recipes get the new state
+		if (multiblockDirty && (multiblockFacing == null || multiblockBounds != null)) {
+			isMultiblockValid();
+		}
 		if (crafter != null && isActive(RedstoneConfiguration.RECIPE_PROCESSING)) {
 			crafter.updateEntity();
 		}
@@ -221,6 +299,17 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 		return Optional.empty();
 	}
 
+	/**
+	 * Same as {@link #getOptionalCrafter()}, without allocating an {@link Optional} for the hot slot filter checks.
+	 */
+	@Nullable
+	private RecipeCrafter getCrafterOrNull() {
+		if (this instanceof IRecipeCrafterProvider crafterProvider) {
+			return crafterProvider.getRecipeCrafter();
+		}
+		return null;
+	}
+
 	protected Optional<RecipeCrafter> getOptionalCrafter() {
 		if (this instanceof IRecipeCrafterProvider crafterProvider) {
 			if (crafterProvider.getRecipeCrafter() == null) {
@@ -255,6 +344,10 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 			redstoneConfiguration.read(tagCompound.getCompound("redstoneConfig"));
 		}
 		upgradeInventory.read(tagCompound, "Upgrades");
+		// Only present in the client sync data
+		if (tagCompound.contains("multiblockValid")) {
+			multiblockValid = tagCompound.getBoolean("multiblockValid");
+		}
 	}
 
 	@Override
@@ -281,9 +374,9 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 			return false;
 		}
 		SlotConfiguration.SlotConfigHolder slotConfigHolder = slotConfiguration.getSlotDetails(index);
-		if (slotConfigHolder.filter() && getOptionalCrafter().isPresent()) {
-			RecipeCrafter crafter = getOptionalCrafter().get();
-			if (!crafter.isStackValidInput(stack)) {
+		if (slotConfigHolder.filter()) {
+			RecipeCrafter crafter = getCrafterOrNull();
+			if (crafter != null && !crafter.isStackValidInput(stack)) {
 				return false;
 			}
 		}
@@ -461,10 +554,7 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 		if(slotConfiguration == null){
 			return new int[]{}; //I think should be ok, if needed this can return all the slots
 		}
-		return slotConfiguration.getSlotsForSide(side).stream()
-			.filter(Objects::nonNull)
-			.filter(slotConfig -> slotConfig.getSlotIO().ioConfig != SlotConfiguration.ExtractConfig.NONE)
-			.mapToInt(SlotConfiguration.SlotConfig::getSlotID).toArray();
+		return slotConfiguration.getAvailableSlots(side);
 	}
 
 	@Override
@@ -472,14 +562,15 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 		if(direction == null || slotConfiguration == null){
 			return false;
 		}
-		SlotConfiguration.SlotConfigHolder slotConfigHolder = slotConfiguration.getSlotDetails(index);
-		SlotConfiguration.SlotConfig slotConfig = slotConfigHolder.getSideDetail(direction);
-		if (slotConfig.getSlotIO().ioConfig.isInsert()) {
-			if (slotConfigHolder.filter() && getOptionalCrafter().isPresent()) {
-				RecipeCrafter crafter = getOptionalCrafter().get();
-				return crafter.isStackValidInput(stack);
+		if (slotConfiguration.getExtractConfig(index, direction).isInsert()) {
+			SlotConfiguration.SlotConfigHolder slotConfigHolder = slotConfiguration.getSlotDetails(index);
+			if (slotConfigHolder.filter()) {
+				RecipeCrafter crafter = getCrafterOrNull();
+				if (crafter != null) {
+					return crafter.isStackValidInput(stack);
+				}
 			}
-			return slotConfig.getSlotIO().getIoConfig().isInsert();
+			return true;
 		}
 		return false;
 	}
@@ -489,9 +580,7 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 		if (slotConfiguration == null) {
 			return false;
 		}
-		SlotConfiguration.SlotConfigHolder slotConfigHolder = slotConfiguration.getSlotDetails(index);
-		SlotConfiguration.SlotConfig slotConfig = slotConfigHolder.getSideDetail(direction);
-		return slotConfig.getSlotIO().ioConfig.isExtact();
+		return slotConfiguration.getExtractConfig(index, direction).isExtact();
 	}
 
 	public void onBreak(World world, PlayerEntity playerEntity, BlockPos blockPos, BlockState blockState){
@@ -502,6 +591,29 @@ public class MachineBaseBlockEntity extends BlockEntity implements BlockEntityTi
 
 	}
 
+	/**
+	 * Makes the recipe crafter look for a recipe again on its next update.
+	 * Use this when something the recipes depend on changes outside of the inventory.
+	 */
+	public void markRecipeDirty() {
+		getOptionalCrafter().ifPresent(crafter -> crafter.setInvDirty(true));
+	}
+
+	@Override
+	public void markRemoved() {
+		super.markRemoved();
+		MultiblockTracker.untrack(this);
+	}
+
+	/**
+	 * Called when a block next to this machine changes. Overrides must call super.
+	 *
+	 * @param fromPos {@link BlockPos} Position of the changed block
+	 */
+	public void onNeighborUpdate(BlockPos fromPos) {
+		redstoneConfiguration.onNeighborUpdate();
+	}
+
 	public RedstoneConfiguration getRedstoneConfiguration() {
 		return redstoneConfiguration;
 	}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2021 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package reborncore.common.blockentity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * Tracks the bounds of the multiblocks on the server, so the cached result of
+ * {@link MachineBaseBlockEntity#isMultiblockValid()} is invalidated when a block changes inside the structure.
+ */
+public class MultiblockTracker {
+	// World -> chunk section -> machines whose multiblock bounds intersect that section, cleared when the world unloads
+	private static final Map<World, Long2ObjectMap<List<MachineBaseBlockEntity>>> MACHINES = new HashMap<>();
+
+	/**
+	 * Called by the server world when the block state at the position changes.
+	 *
+	 * @param world The world of the block
+	 * @param pos The position of the changed block
+	 */
+	public static void onBlockChanged(World world, BlockPos pos) {
+		Long2ObjectMap<List<MachineBaseBlockEntity>> sections = MACHINES.get(world);
+		if (sections == null) {
+			return;
+		}
+
+		List<MachineBaseBlockEntity> machines = sections.get(ChunkSectionPos.asLong(ChunkSectionPos.getSectionCoord(pos.getX()), ChunkSectionPos.getSectionCoord(pos.getY()), ChunkSectionPos.getSectionCoord(pos.getZ())));
+		if (machines == null) {
+			return;
+		}
+
+		for (int i = 0; i < machines.size(); i++) {
+			MachineBaseBlockEntity machine = machines.get(i);
+			if (machine.multiblockBounds != null && machine.multiblockBounds.contains(pos)) {
+				machine.invalidateMultiblock();
+			}
+		}
+	}
+
+	public static void onWorldUnload(World world) {
+		MACHINES.remove(world);
+	}
+
+	static void track(MachineBaseBlockEntity machine, @Nullable BlockBox bounds) {
+		if (bounds != null && bounds.equals(machine.multiblockBounds)) {
+			return;
+		}
+		untrack(machine);
+		if (bounds == null) {
+			return;
+		}
+
+		machine.multiblockBounds = bounds;
+		Long2ObjectMap<List<MachineBaseBlockEntity>> sections = MACHINES.computeIfAbsent(machine.getWorld(), world -> new Long2ObjectOpenHashMap<>());
+		forEachSection(bounds, key -> sections.computeIfAbsent(key, k -> new ArrayList<>(1)).add(machine));
+	}
+
+	static void untrack(MachineBaseBlockEntity machine) {
+		BlockBox bounds = machine.multiblockBounds;
+		if (bounds == null) {
+			return;
+		}
+
+		machine.multiblockBounds = null;
+		Long2ObjectMap<List<MachineBaseBlockEntity>> sections = MACHINES.get(machine.getWorld());
+		if (sections == null) {
+			return;
+		}
+		forEachSection(bounds, key -> {
+			List<MachineBaseBlockEntity> machines = sections.get(key);
+			if (machines != null) {
+				machines.remove(machine);
+				if (machines.isEmpty()) {
+					sections.remove(key);
+				}
+			}
+		});
+	}
+
+	private static void forEachSection(BlockBox bounds, LongConsumer consumer) {
+		for (int x = ChunkSectionPos.getSectionCoord(bounds.getMinX()); x <= ChunkSectionPos.getSectionCoord(bounds.getMaxX()); x++) {
+			for (int y = ChunkSectionPos.getSectionCoord(bounds.getMinY()); y <= ChunkSectionPos.getSectionCoord(bounds.getMaxY()); y++) {
+				for (int z = ChunkSectionPos.getSectionCoord(bounds.getMinZ()); z <= ChunkSectionPos.getSectionCoord(bounds.getMaxZ()); z++) {
+					consumer.accept(ChunkSectionPos.asLong(x, y, z));
+				}
+			}
+		}
+	}
+}
@@ -39,10 +39,12 @@ import net.minecraft.client.render.model.json.ModelTransformation;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.fluid.FluidState;
 import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.BlockRenderView;
 import net.minecraft.world.BlockView;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Random;
 import java.util.function.BiPredicate;
@@ -212,13 +214,15 @@ public interface MultiblockWriter {
 	}
 
 	/**
-	 * A writer which verifies the positions of each block
+	 * A writer which verifies the positions of each block, and records the bounds of the multiblock
 	 */
 	class MultiblockVerifier implements MultiblockWriter {
 		private final BlockPos relative;
 		private final BlockView view;
 
 		private boolean valid = true;
+		private boolean empty = true;
+		private int minX, minY, minZ, maxX, maxY, maxZ;
 
 		public MultiblockVerifier(BlockPos relative, BlockView view) {
 			this.relative = relative;
@@ -229,10 +233,34 @@ public interface MultiblockWriter {
 			return valid;
 		}
 
+		/**
+		 * @return The box containing every block of the multiblock, null if there are none
+		 */
+		@Nullable
+		public BlockBox getBounds() {
+			return empty ? null : new BlockBox(minX, minY, minZ, maxX, maxY, maxZ);
+		}
+
 		@Override
 		public MultiblockWriter add(int x, int y, int z, BiPredicate<BlockView, BlockPos> predicate, BlockState state) {
+			BlockPos pos = relative.add(x, y, z);
+
+			if (empty) {
+				empty = false;
+				minX = maxX = pos.getX();
+				minY = maxY = pos.getY();
+				minZ = maxZ = pos.getZ();
+			} else {
+				minX = Math.min(minX, pos.getX());
+				minY = Math.min(minY, pos.getY());
+				minZ = Math.min(minZ, pos.getZ());
+				maxX = Math.max(maxX, pos.getX());
+				maxY = Math.max(maxY, pos.getY());
+				maxZ = Math.max(maxZ, pos.getZ());
+			}
+
 			if (valid) {
-				valid = predicate.test(view, relative.add(x, y, z));
+				valid = predicate.test(view, pos);
 			}
 
 			return this;
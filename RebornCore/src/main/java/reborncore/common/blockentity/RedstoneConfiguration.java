@@ -32,12 +32,14 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import reborncore.api.recipe.IRecipeCrafterProvider;
 import reborncore.client.screen.builder.Syncable;
 import reborncore.common.util.BooleanFunction;
 import reborncore.common.util.NBTSerializable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -83,7 +85,12 @@ public class RedstoneConfiguration implements NBTSerializable, Syncable {
 
 	private final MachineBaseBlockEntity blockEntity;
 	private List<Element> activeElements;
-	private Map<Element, State> stateMap;
+	// Indexed by the element id, null for the elements not supported by the machine
+	private State[] states;
+
+	// Cached redstone power received by the machine, refreshed after a neighbor update
+	private boolean powered;
+	private boolean poweredDirty = true;
 
 	public RedstoneConfiguration(MachineBaseBlockEntity blockEntity) {
 		this.blockEntity = blockEntity;
@@ -101,30 +108,33 @@ public class RedstoneConfiguration implements NBTSerializable, Syncable {
 	public void refreshCache() {
 		activeElements = null;
 
-		if (stateMap != null) {
+		if (states != null) {
 			for (Element element : getElements()) {
-				if (!stateMap.containsKey(element)) {
-					stateMap.put(element, State.IGNORED);
+				if (getStateOrNull(element) == null) {
+					putState(element, State.IGNORED);
 				}
 			}
 		}
 	}
 
 	public State getState(Element element) {
-		if (stateMap == null) {
-			populateStateMap();
+		if (states == null) {
+			populateStates();
+		}
+		State state = getStateOrNull(element);
+		if (state == null) {
+			// Not using Validate as the message would be built on every call
+			throw new NullPointerException("Unsupported element " + element.getName() + " for machine: " + blockEntity.getClass().getName());
 		}
-		State state = stateMap.get(element);
-		Validate.notNull(state, "Unsupported element " + element.getName() + " for machine: " + blockEntity.getClass().getName());
 		return state;
 	}
 
 	public void setState(Element element, State state) {
-		if (stateMap == null) {
-			populateStateMap();
+		if (states == null) {
+			populateStates();
 		}
-		Validate.isTrue(stateMap.containsKey(element));
-		stateMap.replace(element, state);
+		Validate.isTrue(getStateOrNull(element) != null);
+		putState(element, state);
 	}
 
 	public boolean isActive(Element element) {
@@ -132,16 +142,45 @@ public class RedstoneConfiguration implements NBTSerializable, Syncable {
 		if (state == State.IGNORED) {
 			return true;
 		}
-		boolean hasRedstonePower = blockEntity.getWorld().isReceivingRedstonePower(blockEntity.getPos());
 		boolean enabledState = state == State.ENABLED_ON;
-		return enabledState == hasRedstonePower;
+		return enabledState == isPowered();
+	}
+
+	/**
+	 * @return true if the machine receives redstone power, cached until the next neighbor update
+	 */
+	public boolean isPowered() {
+		if (poweredDirty) {
+			powered = blockEntity.getWorld().isReceivingRedstonePower(blockEntity.getPos());
+			poweredDirty = false;
+		}
+		return powered;
+	}
+
+	/**
+	 * Called when a block next to the machine changes, the redstone power it receives may have changed.
+	 */
+	public void onNeighborUpdate() {
+		poweredDirty = true;
 	}
 
-	private void populateStateMap() {
-		Validate.isTrue(stateMap == null);
-		stateMap = new HashMap<>();
+	@Nullable
+	private State getStateOrNull(Element element) {
+		return element.id < states.length ? states[element.id] : null;
+	}
+
+	private void putState(Element element, State state) {
+		if (element.id >= states.length) {
+			states = Arrays.copyOf(states, Element.nextId);
+		}
+		states[element.id] = state;
+	}
+
+	private void populateStates() {
+		Validate.isTrue(states == null);
+		states = new State[Element.nextId];
 		for (Element element : getElements()) {
-			stateMap.put(element, State.IGNORED);
+			putState(element, State.IGNORED);
 		}
 	}
 
@@ -157,7 +196,7 @@ public class RedstoneConfiguration implements NBTSerializable, Syncable {
 
 	@Override
 	public void read(@NotNull NbtCompound tag) {
-		stateMap = new HashMap<>();
+		states = new State[Element.nextId];
 		for (String key : tag.getKeys()) {
 			Element element = ELEMENT_MAP.get(key);
 			if (element == null) {
@@ -165,13 +204,13 @@ public class RedstoneConfiguration implements NBTSerializable, Syncable {
 				continue;
 			}
 			State state = State.values()[tag.getInt(key)];
-			stateMap.put(element, state);
+			putState(element, state);
 		}
 
 		//Ensure all active states are in the map, will happen if a new state is added when the world is upgraded
 		for (Element element : getElements()) {
-			if (!stateMap.containsKey(element)) {
-				stateMap.put(element, State.IGNORED);
+			if (getStateOrNull(element) == null) {
+				putState(element, State.IGNORED);
 			}
 		}
 	}
@@ -187,11 +226,15 @@ public class RedstoneConfiguration implements NBTSerializable, Syncable {
 
 	//Could be power input/output, item/fluid io, machine processing
 	public static class Element {
+		private static int nextId = 0;
+
+		private final int id;
 		private final String name;
 		private final BooleanFunction<MachineBaseBlockEntity> isApplicable;
 		private final Supplier<ItemStack> icon;
 
 		public Element(String name, BooleanFunction<MachineBaseBlockEntity> isApplicable, Supplier<ItemStack> icon) {
+			this.id = nextId++;
 			this.name = name;
 			this.isApplicable = isApplicable;
 			this.icon = icon;
@@ -25,13 +25,18 @@
 package reborncore.common.blockentity;
 
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiCache;
 import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
 import net.fabricmc.fabric.api.transfer.v1.item.ItemStorage;
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
 import net.fabricmc.fabric.api.transfer.v1.storage.StorageUtil;
 import net.minecraft.inventory.Inventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.StringNbtReader;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Direction;
 import org.apache.commons.lang3.Validate;
 import org.jetbrains.annotations.NotNull;
@@ -41,15 +46,44 @@ import reborncore.common.util.NBTSerializable;
 import reborncore.common.util.RebornInventory;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class SlotConfiguration implements NBTSerializable {
 
-	List<SlotConfigHolder> slotDetails = new ArrayList<>();
+	private static final Direction[] DIRECTIONS = Direction.values();
+
+	private static final ExtractConfig[] EXTRACT_CONFIGS = ExtractConfig.values();
+	/**
+	 * Bits used by a slot in the {@link #toBitSet()} form: 2 bits per side for the {@link ExtractConfig}, then the input, output and filter flags.
+	 */
+	private static final int BITS_PER_SLOT = DIRECTIONS.length * 2 + 3;
+
+	/**
+	 * Indexed by slot id, slots without a holder are null.
+	 */
+	SlotConfigHolder[] slotDetails = new SlotConfigHolder[0];
+	private int holderCount = 0;
 
 	@Nullable
 	Inventory inventory;
 
+	/**
+	 * Caches of the adjacent item storages, created on first use and indexed by {@link Direction#ordinal()}.
+	 */
+	@SuppressWarnings("unchecked")
+	private final BlockApiCache<Storage<ItemVariant>, Direction>[] neighborItemCaches = new BlockApiCache[6];
+	@Nullable
+	private InventoryStorage machineStorage;
+	/**
+	 * The enabled transfers, each packed as {@code slotID << 4 | output << 3 | side ordinal}.
+	 * Rebuilt on the next transfer pass once the configuration has changed.
+	 */
+	private int[] activeTransfers = new int[0];
+	private boolean activeTransfersDirty = true;
+	/**
+	 * The slots accessible from each side, indexed by {@link Direction#ordinal()} and rebuilt once the configuration has changed.
+	 */
+	private final int[][] availableSlots = new int[6][];
+
 	public SlotConfiguration(RebornInventory<?> inventory) {
 		this.inventory = inventory;
 
@@ -62,7 +96,7 @@ public class SlotConfiguration implements NBTSerializable {
 		if (inventory == null && machineBase.getOptionalInventory().isPresent()) {
 			inventory = machineBase.getOptionalInventory().get();
 		}
-		if (inventory != null && slotDetails.size() != inventory.size()) {
+		if (inventory != null && holderCount != inventory.size()) {
 			for (int i = 0; i < inventory.size(); i++) {
 				SlotConfigHolder holder = getSlotDetails(i);
 				if (holder == null) {
@@ -73,16 +107,103 @@ public class SlotConfiguration implements NBTSerializable {
 			}
 		}
 		if (!machineBase.getWorld().isClient && machineBase.getWorld().getTime() % machineBase.slotTransferSpeed() == 0) {
-			getSlotDetails().forEach(slotConfigHolder -> slotConfigHolder.handleItemIO(machineBase));
+			handleItemIO(machineBase);
 		}
 	}
 
+	private void handleItemIO(MachineBaseBlockEntity machineBase) {
+		if (activeTransfersDirty) {
+			rebuildActiveTransfers();
+		}
+		if (activeTransfers.length == 0) {
+			return;
+		}
+		if (machineStorage == null) {
+			machineStorage = InventoryStorage.of(machineBase, null);
+		}
+		RebornInventory<?> inventory = machineBase.getOptionalInventory().get();
+
+		for (int transfer : activeTransfers) {
+			int slotID = transfer >>> 4;
+			Direction side = DIRECTIONS[transfer & 7];
+			ItemStack stack = inventory.getStack(slotID);
+
+			if ((transfer & 8) == 0) {
+				if (stack.getMaxCount() == stack.getCount()) {
+					continue;
+				}
+				Storage<ItemVariant> neighbor = getNeighborStorage(machineBase, side);
+				if (neighbor != null) {
+					StorageUtil.move(neighbor, machineStorage.getSlot(slotID), iv -> true, 4, null); // Move up to 4 per tick.
+				}
+			} else {
+				if (stack.isEmpty()) {
+					continue;
+				}
+				Storage<ItemVariant> neighbor = getNeighborStorage(machineBase, side);
+				if (neighbor != null) {
+					StorageUtil.move(machineStorage.getSlot(slotID), neighbor, iv -> true, Long.MAX_VALUE, null);
+				}
+			}
+		}
+	}
+
+	@Nullable
+	private Storage<ItemVariant> getNeighborStorage(MachineBaseBlockEntity machineBase, Direction side) {
+		BlockApiCache<Storage<ItemVariant>, Direction> cache = neighborItemCaches[side.ordinal()];
+		if (cache == null) {
+			cache = BlockApiCache.create(ItemStorage.SIDED, (ServerWorld) machineBase.getWorld(), machineBase.getPos().offset(side));
+			neighborItemCaches[side.ordinal()] = cache;
+		}
+		return cache.find(side.getOpposite());
+	}
+
+	private void rebuildActiveTransfers() {
+		IntArrayList transfers = new IntArrayList();
+		for (SlotConfigHolder holder : slotDetails) {
+			if (holder == null || (!holder.input && !holder.output)) {
+				continue;
+			}
+			for (Direction side : DIRECTIONS) {
+				ExtractConfig ioConfig = holder.getSideDetail(side).getSlotIO().getIoConfig();
+				if (holder.input && ioConfig == ExtractConfig.INPUT) {
+					transfers.add(holder.slotID << 4 | side.ordinal());
+				} else if (holder.output && ioConfig == ExtractConfig.OUTPUT) {
+					transfers.add(holder.slotID << 4 | 8 | side.ordinal());
+				}
+			}
+		}
+		activeTransfers = transfers.toIntArray();
+		activeTransfersDirty = false;
+	}
+
+	/**
+	 * @return true when a slot automatically moves items from or to a neighbour
+	 */
+	public boolean hasActiveTransfers() {
+		if (activeTransfersDirty) {
+			rebuildActiveTransfers();
+		}
+		return activeTransfers.length > 0;
+	}
+
+	void markTransfersDirty() {
+		activeTransfersDirty = true;
+		Arrays.fill(availableSlots, null);
+	}
+
 	public SlotConfiguration(NbtCompound tagCompound) {
 		read(tagCompound);
 	}
 
 	public List<SlotConfigHolder> getSlotDetails() {
-		return slotDetails;
+		List<SlotConfigHolder> holders = new ArrayList<>(holderCount);
+		for (SlotConfigHolder holder : slotDetails) {
+			if (holder != null) {
+				holders.add(holder);
+			}
+		}
+		return holders;
 	}
 
 	/**
@@ -92,36 +213,138 @@ public class SlotConfiguration implements NBTSerializable {
 	 * @return SlotConfigHolder
 	 */
 	public SlotConfigHolder updateSlotDetails(SlotConfigHolder slotConfigHolder) {
-		SlotConfigHolder lookup = getSlotDetails(slotConfigHolder.slotID);
+		int slotID = slotConfigHolder.slotID;
+		Validate.isTrue(slotID >= 0, "Invalid slot id " + slotID);
+		if (slotID >= slotDetails.length) {
+			slotDetails = Arrays.copyOf(slotDetails, slotID + 1);
+		}
+		SlotConfigHolder lookup = slotDetails[slotID];
 		if (lookup != null) {
-			slotDetails.remove(lookup);
+			lookup.owner = null;
+		} else {
+			holderCount++;
 		}
-		slotDetails.add(slotConfigHolder);
+		slotDetails[slotID] = slotConfigHolder;
+		slotConfigHolder.owner = this;
+		markTransfersDirty();
 		return slotConfigHolder;
 	}
 
 	@Nullable
 	public SlotConfigHolder getSlotDetails(int id) {
-		for (SlotConfigHolder detail : slotDetails) {
-			if (detail.slotID == id) {
-				return detail;
-			}
+		if (id < 0 || id >= slotDetails.length) {
+			return null;
 		}
-		return null;
+		return slotDetails[id];
+	}
+
+	/**
+	 * @return one more than the highest configured slot id
+	 */
+	public int getSlotCount() {
+		return slotDetails.length;
+	}
+
+	/**
+	 * @return the {@link ExtractConfig} of the slot on the given side, {@link ExtractConfig#NONE} when the slot is not configured
+	 */
+	public ExtractConfig getExtractConfig(int id, Direction side) {
+		SlotConfigHolder holder = getSlotDetails(id);
+		if (holder == null) {
+			return ExtractConfig.NONE;
+		}
+		return holder.sides[side.ordinal()].slotIO.ioConfig;
 	}
 
 	public List<SlotConfig> getSlotsForSide(Direction facing) {
-		return slotDetails.stream().map(slotConfigHolder -> slotConfigHolder.getSideDetail(facing)).collect(Collectors.toList());
+		List<SlotConfig> slotConfigs = new ArrayList<>(holderCount);
+		for (SlotConfigHolder holder : slotDetails) {
+			if (holder != null) {
+				slotConfigs.add(holder.getSideDetail(facing));
+			}
+		}
+		return slotConfigs;
+	}
+
+	/**
+	 * The returned array is shared and must not be modified.
+	 *
+	 * @return the ids of the slots that can be inserted into or extracted from on the given side
+	 */
+	public int[] getAvailableSlots(Direction side) {
+		int[] slots = availableSlots[side.ordinal()];
+		if (slots == null) {
+			IntArrayList available = new IntArrayList();
+			for (SlotConfigHolder holder : slotDetails) {
+				if (holder != null && holder.sides[side.ordinal()].slotIO.ioConfig != ExtractConfig.NONE) {
+					available.add(holder.slotID);
+				}
+			}
+			slots = available.toIntArray();
+			availableSlots[side.ordinal()] = slots;
+		}
+		return slots;
+	}
+
+	/**
+	 * Packs the side configs and flags of every slot into a {@link BitSet}, {@link #BITS_PER_SLOT} bits per slot.
+	 * Used to sync the configuration to the client, see {@link #readBitSet(int, BitSet)}.
+	 */
+	public BitSet toBitSet() {
+		BitSet bits = new BitSet(slotDetails.length * BITS_PER_SLOT);
+		for (SlotConfigHolder holder : slotDetails) {
+			if (holder == null) {
+				continue;
+			}
+			int offset = holder.slotID * BITS_PER_SLOT;
+			for (int side = 0; side < DIRECTIONS.length; side++) {
+				int ioConfig = holder.sides[side].slotIO.ioConfig.ordinal();
+				bits.set(offset + side * 2, (ioConfig & 1) != 0);
+				bits.set(offset + side * 2 + 1, (ioConfig & 2) != 0);
+			}
+			offset += DIRECTIONS.length * 2;
+			bits.set(offset, holder.input);
+			bits.set(offset + 1, holder.output);
+			bits.set(offset + 2, holder.filter);
+		}
+		return bits;
+	}
+
+	/**
+	 * Applies a configuration written by {@link #toBitSet()}, updating the existing holders in place.
+	 *
+	 * @param size the number of slots in the bitset
+	 */
+	public void readBitSet(int size, BitSet bits) {
+		for (int slotID = 0; slotID < size; slotID++) {
+			SlotConfigHolder holder = getSlotDetails(slotID);
+			if (holder == null) {
+				holder = updateSlotDetails(new SlotConfigHolder(slotID));
+			}
+			int offset = slotID * BITS_PER_SLOT;
+			for (int side = 0; side < DIRECTIONS.length; side++) {
+				int ioConfig = (bits.get(offset + side * 2) ? 1 : 0) | (bits.get(offset + side * 2 + 1) ? 2 : 0);
+				holder.sides[side].slotIO = new SlotIO(EXTRACT_CONFIGS[Math.min(ioConfig, EXTRACT_CONFIGS.length - 1)]);
+			}
+			offset += DIRECTIONS.length * 2;
+			holder.input = bits.get(offset);
+			holder.output = bits.get(offset + 1);
+			holder.filter = bits.get(offset + 2);
+		}
+		markTransfersDirty();
 	}
 
 	@NotNull
 	@Override
 	public NbtCompound write() {
 		NbtCompound tagCompound = new NbtCompound();
-		tagCompound.putInt("size", slotDetails.size());
-		for (int i = 0; i < slotDetails.size(); i++) {
-			tagCompound.put("slot_" + i, slotDetails.get(i).write());
+		int i = 0;
+		for (SlotConfigHolder holder : slotDetails) {
+			if (holder != null) {
+				tagCompound.put("slot_" + i++, holder.write());
+			}
 		}
+		tagCompound.putInt("size", i);
 		return tagCompound;
 	}
 
@@ -138,55 +361,44 @@ public class SlotConfiguration implements NBTSerializable {
 	public static class SlotConfigHolder implements NBTSerializable {
 
 		int slotID;
-		HashMap<Direction, SlotConfig> sideMap;
+		/**
+		 * Indexed by {@link Direction#ordinal()}.
+		 */
+		final SlotConfig[] sides = new SlotConfig[6];
 		boolean input, output, filter;
+		@Nullable
+		SlotConfiguration owner;
 
 		public SlotConfigHolder(int slotID) {
 			this.slotID = slotID;
-			sideMap = new HashMap<>();
-			Arrays.stream(Direction.values()).forEach(facing -> sideMap.put(facing, new SlotConfig(facing, slotID)));
+			for (Direction facing : DIRECTIONS) {
+				sides[facing.ordinal()] = new SlotConfig(facing, slotID);
+			}
 		}
 
 		public SlotConfigHolder(NbtCompound tagCompound) {
-			sideMap = new HashMap<>();
 			read(tagCompound);
-			Validate.isTrue(Arrays.stream(Direction.values())
-				                .map(enumFacing -> sideMap.get(enumFacing))
-				                .noneMatch(Objects::isNull),
-			                "sideMap failed to load from nbt"
-			);
 		}
 
 		public SlotConfig getSideDetail(Direction side) {
 			Validate.notNull(side, "A none null side must be used");
-			SlotConfig slotConfig = sideMap.get(side);
-			Validate.notNull(slotConfig, "slotConfig was null for side " + side);
-			return slotConfig;
+			return sides[side.ordinal()];
 		}
 
 		public List<SlotConfig> getAllSides() {
-			return new ArrayList<>(sideMap.values());
+			return new ArrayList<>(Arrays.asList(sides));
 		}
 
 		public void updateSlotConfig(SlotConfig config) {
-			SlotConfig toEdit = sideMap.get(config.side);
+			SlotConfig toEdit = sides[config.side.ordinal()];
 			toEdit.slotIO = config.slotIO;
+			markOwnerDirty();
 		}
 
-		private void handleItemIO(MachineBaseBlockEntity machineBase) {
-			if (!input && !output) {
-				return;
+		private void markOwnerDirty() {
+			if (owner != null) {
+				owner.markTransfersDirty();
 			}
-			getAllSides().stream()
-				.filter(config -> config.getSlotIO().getIoConfig() != ExtractConfig.NONE)
-				.forEach(config -> {
-					if (input && config.getSlotIO().getIoConfig() == ExtractConfig.INPUT) {
-						config.handleItemInput(machineBase);
-					}
-					if (output && config.getSlotIO().getIoConfig() == ExtractConfig.OUTPUT) {
-						config.handleItemOutput(machineBase);
-					}
-				});
 		}
 
 		public boolean autoInput() {
@@ -203,10 +415,12 @@ public class SlotConfiguration implements NBTSerializable {
 
 		public void setInput(boolean input) {
 			this.input = input;
+			markOwnerDirty();
 		}
 
 		public void setOutput(boolean output) {
 			this.output = output;
+			markOwnerDirty();
 		}
 
 		public void setfilter(boolean filter) {
@@ -218,7 +432,9 @@ public class SlotConfiguration implements NBTSerializable {
 		public NbtCompound write() {
 			NbtCompound compound = new NbtCompound();
 			compound.putInt("slotID", slotID);
-			Arrays.stream(Direction.values()).forEach(facing -> compound.put("side_" + facing.ordinal(), sideMap.get(facing).write()));
+			for (Direction facing : DIRECTIONS) {
+				compound.put("side_" + facing.ordinal(), sides[facing.ordinal()].write());
+			}
 			compound.putBoolean("input", input);
 			compound.putBoolean("output", output);
 			compound.putBoolean("filter", filter);
@@ -227,18 +443,17 @@ public class SlotConfiguration implements NBTSerializable {
 
 		@Override
 		public void read(@NotNull NbtCompound nbt) {
-			sideMap.clear();
 			slotID = nbt.getInt("slotID");
-			Arrays.stream(Direction.values()).forEach(facing -> {
+			for (Direction facing : DIRECTIONS) {
 				NbtCompound compound = nbt.getCompound("side_" + facing.ordinal());
-				SlotConfig config = new SlotConfig(compound);
-				sideMap.put(facing, config);
-			});
+				sides[facing.ordinal()] = new SlotConfig(compound);
+			}
 			input = nbt.getBoolean("input");
 			output = nbt.getBoolean("output");
 			if (nbt.contains("filter")) { //Was added later, this allows old saves to be upgraded
 				filter = nbt.getBoolean("filter");
 			}
+			markOwnerDirty();
 		}
 	}
 
@@ -283,38 +498,6 @@ public class SlotConfiguration implements NBTSerializable {
 			return slotID;
 		}
 
-		private void handleItemInput(MachineBaseBlockEntity machineBase) {
-			RebornInventory<?> inventory = machineBase.getOptionalInventory().get();
-			ItemStack targetStack = inventory.getStack(slotID);
-			if (targetStack.getMaxCount() == targetStack.getCount()) {
-				return;
-			}
-
-			StorageUtil.move(
-					ItemStorage.SIDED.find(machineBase.getWorld(), machineBase.getPos().offset(side), side.getOpposite()),
-					InventoryStorage.of(machineBase, null).getSlot(slotID),
-					iv -> true,
-					4, // Move up to 4 per tick.
-					null
-			);
-		}
-
-		private void handleItemOutput(MachineBaseBlockEntity machineBase) {
-			RebornInventory<?> inventory = machineBase.getOptionalInventory().get();
-			ItemStack sourceStack = inventory.getStack(slotID);
-			if (sourceStack.isEmpty()) {
-				return;
-			}
-
-			StorageUtil.move(
-					InventoryStorage.of(machineBase, null).getSlot(slotID),
-					ItemStorage.SIDED.find(machineBase.getWorld(), machineBase.getPos().offset(side), side.getOpposite()),
-					iv -> true,
-					Long.MAX_VALUE,
-					null
-			);
-		}
-
 		@NotNull
 		@Override
 		public NbtCompound write() {
@@ -327,7 +510,7 @@ public class SlotConfiguration implements NBTSerializable {
 
 		@Override
 		public void read(@NotNull NbtCompound nbt) {
-			side = Direction.values()[nbt.getInt("side")];
+			side = DIRECTIONS[nbt.getInt("side")];
 			slotIO = new SlotIO(nbt.getCompound("config"));
 			slotID = nbt.getInt("slot");
 		}
@@ -418,8 +601,7 @@ public class SlotConfiguration implements NBTSerializable {
 			return false;
 		}
 		SlotConfiguration.SlotConfigHolder slotConfigHolder = blockEntity.getSlotConfiguration().getSlotDetails(index);
-		SlotConfiguration.SlotConfig slotConfig = slotConfigHolder.getSideDetail(direction);
-		if (slotConfig.getSlotIO().getIoConfig().isInsert()) {
+		if (slotConfigHolder.sides[direction.ordinal()].slotIO.ioConfig.isInsert()) {
 			if (slotConfigHolder.filter()) {
 				if(blockEntity instanceof SlotFilter){
 					return ((SlotFilter) blockEntity).isStackValid(index, itemStackIn);
@@ -432,12 +614,7 @@ public class SlotConfiguration implements NBTSerializable {
 
 	//DO NOT CALL THIS, use the inventory access on the inventory
 	public static boolean canExtractItem(int index, ItemStack stack, Direction direction, MachineBaseBlockEntity blockEntity) {
-		SlotConfiguration.SlotConfigHolder slotConfigHolder = blockEntity.getSlotConfiguration().getSlotDetails(index);
-		SlotConfiguration.SlotConfig slotConfig = slotConfigHolder.getSideDetail(direction);
-		if (slotConfig.getSlotIO().getIoConfig().isExtact()) {
-			return true;
-		}
-		return false;
+		return blockEntity.getSlotConfiguration().getExtractConfig(index, direction).isExtact();
 	}
 
 	public interface SlotFilter {
@@ -26,6 +26,9 @@ package reborncore.common.chunkloading;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtElement;
 import net.minecraft.nbt.NbtOps;
@@ -41,11 +44,11 @@ import net.minecraft.world.PersistentState;
 import net.minecraft.world.World;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.Nullable;
 import reborncore.common.network.ClientBoundPackets;
 import reborncore.common.network.NetworkManager;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 //This does not do the actual chunk loading, just keeps track of what chunks the chunk loader has loaded
 public class ChunkLoaderManager extends PersistentState {
@@ -64,65 +67,70 @@ public class ChunkLoaderManager extends PersistentState {
 		return serverWorld.getPersistentStateManager().getOrCreate(ChunkLoaderManager::fromTag, ChunkLoaderManager::new, KEY);
 	}
 
-	private final List<LoadedChunk> loadedChunks = new ArrayList<>();
+	// World -> index of the chunks loaded in that world, kept in sync by addLoadedChunk and removeLoadedChunk
+	private final Map<Identifier, WorldIndex> worldIndexes = new HashMap<>();
 
 	public static ChunkLoaderManager fromTag(NbtCompound tag) {
 		ChunkLoaderManager chunkLoaderManager = new ChunkLoaderManager();
 
-		chunkLoaderManager.loadedChunks.clear();
-
 		List<LoadedChunk> chunks = CODEC.parse(NbtOps.INSTANCE, tag.getList("loadedchunks", NbtElement.COMPOUND_TYPE))
 				.result()
 				.orElse(Collections.emptyList());
 
-		chunkLoaderManager.loadedChunks.addAll(chunks);
+		for (LoadedChunk loadedChunk : chunks) {
+			// Skip duplicated entries instead of indexing them twice
+			if (chunkLoaderManager.getLoadedChunk(loadedChunk.getWorld(), loadedChunk.getChunk(), loadedChunk.getChunkLoader()) == null) {
+				chunkLoaderManager.addLoadedChunk(loadedChunk);
+			}
+		}
 
 		return chunkLoaderManager;
 	}
 
 	@Override
 	public NbtCompound writeNbt(NbtCompound compoundTag) {
-		CODEC.encodeStart(NbtOps.INSTANCE, loadedChunks)
+		CODEC.encodeStart(NbtOps.INSTANCE, getAllLoadedChunks())
 				.result()
 				.ifPresent(tag -> compoundTag.put("loadedchunks", tag));
 		return compoundTag;
 	}
 
 	public Optional<LoadedChunk> getLoadedChunk(World world, ChunkPos chunkPos, BlockPos chunkLoader){
-		return loadedChunks.stream()
-			.filter(loadedChunk -> loadedChunk.getWorld().equals(getWorldName(world)))
-			.filter(loadedChunk -> loadedChunk.getChunk().equals(chunkPos))
-			.filter(loadedChunk -> loadedChunk.getChunkLoader().equals(chunkLoader))
-			.findFirst();
+		return Optional.ofNullable(getLoadedChunk(getWorldName(world), chunkPos, chunkLoader));
 	}
 
 	public Optional<LoadedChunk> getLoadedChunk(World world, ChunkPos chunkPos){
-		return loadedChunks.stream()
-			.filter(loadedChunk -> loadedChunk.getWorld().equals(getWorldName(world)))
-			.filter(loadedChunk -> loadedChunk.getChunk().equals(chunkPos))
-			.findFirst();
+		WorldIndex worldIndex = worldIndexes.get(getWorldName(world));
+		if (worldIndex == null) {
+			return Optional.empty();
+		}
+		List<LoadedChunk> chunks = worldIndex.byChunk.get(chunkPos.toLong());
+		return chunks == null ? Optional.empty() : Optional.of(chunks.get(0));
 	}
 
 	public List<LoadedChunk> getLoadedChunks(World world, BlockPos chunkloader){
-		return loadedChunks.stream()
-			.filter(loadedChunk -> loadedChunk.getWorld().equals(getWorldName(world)))
-			.filter(loadedChunk -> loadedChunk.getChunkLoader().equals(chunkloader))
-			.collect(Collectors.toList());
+		WorldIndex worldIndex = worldIndexes.get(getWorldName(world));
+		if (worldIndex == null) {
+			return new ArrayList<>();
+		}
+		Long2ObjectMap<LoadedChunk> chunks = worldIndex.byLoader.get(chunkloader);
+		return chunks == null ? new ArrayList<>() : new ArrayList<>(chunks.values());
 	}
 
 	public boolean isChunkLoaded(World world, ChunkPos chunkPos, BlockPos chunkLoader){
-		return getLoadedChunk(world, chunkPos, chunkLoader).isPresent();
+		return getLoadedChunk(getWorldName(world), chunkPos, chunkLoader) != null;
 	}
 
 	public boolean isChunkLoaded(World world, ChunkPos chunkPos){
-		return getLoadedChunk(world, chunkPos).isPresent();
+		WorldIndex worldIndex = worldIndexes.get(getWorldName(world));
+		return worldIndex != null && worldIndex.byChunk.containsKey(chunkPos.toLong());
 	}
 
 
 	public void loadChunk(World world, ChunkPos chunkPos, BlockPos chunkLoader, String player){
 		Validate.isTrue(!isChunkLoaded(world, chunkPos, chunkLoader), "chunk is already loaded");
 		LoadedChunk loadedChunk = new LoadedChunk(chunkPos, getWorldName(world), player, chunkLoader);
-		loadedChunks.add(loadedChunk);
+		addLoadedChunk(loadedChunk);
 
 		loadChunk((ServerWorld) world, loadedChunk);
 
@@ -130,16 +138,29 @@ public class ChunkLoaderManager extends PersistentState {
 	}
 
 	public void unloadChunkLoader(World world, BlockPos chunkLoader){
-		getLoadedChunks(world, chunkLoader).forEach(loadedChunk -> unloadChunk(world, loadedChunk.getChunk(), chunkLoader));
+		WorldIndex worldIndex = worldIndexes.get(getWorldName(world));
+		if (worldIndex == null) {
+			return;
+		}
+		Long2ObjectMap<LoadedChunk> chunks = worldIndex.byLoader.get(chunkLoader);
+		if (chunks == null) {
+			return;
+		}
+		// Copy as the loader map is removed with its last chunk
+		for (LoadedChunk loadedChunk : new ArrayList<>(chunks.values())) {
+			unloadChunk(world, loadedChunk);
+		}
 	}
 
 	public void unloadChunk(World world, ChunkPos chunkPos, BlockPos chunkLoader){
-		Optional<LoadedChunk> optionalLoadedChunk = getLoadedChunk(world, chunkPos, chunkLoader);
-		Validate.isTrue(optionalLoadedChunk.isPresent(), "chunk is not loaded");
+		LoadedChunk loadedChunk = getLoadedChunk(getWorldName(world), chunkPos, chunkLoader);
+		Validate.isTrue(loadedChunk != null, "chunk is not loaded");
 
-		LoadedChunk loadedChunk = optionalLoadedChunk.get();
+		unloadChunk(world, loadedChunk);
+	}
 
-		loadedChunks.remove(loadedChunk);
+	private void unloadChunk(World world, LoadedChunk loadedChunk) {
+		removeLoadedChunk(loadedChunk);
 
 		if(!isChunkLoaded(world, loadedChunk.getChunk())){
 			final ServerChunkManager serverChunkManager = ((ServerWorld) world).getChunkManager();
@@ -149,15 +170,69 @@ public class ChunkLoaderManager extends PersistentState {
 	}
 
 	public void onServerWorldLoad(ServerWorld world) {
-		loadedChunks.forEach(loadedChunk -> loadChunk(world, loadedChunk));
+		for (WorldIndex worldIndex : worldIndexes.values()) {
+			for (List<LoadedChunk> chunks : worldIndex.byChunk.values()) {
+				// One ticket per chunk is enough, the other loaders of the chunk share it
+				loadChunk(world, chunks.get(0));
+			}
+		}
 	}
 
 	public void onServerWorldTick(ServerWorld world) {
-		if (!loadedChunks.isEmpty()) {
+		if (!worldIndexes.isEmpty()) {
 			world.resetIdleTimeout();
 		}
 	}
 
+	@Nullable
+	private LoadedChunk getLoadedChunk(Identifier worldName, ChunkPos chunkPos, BlockPos chunkLoader) {
+		WorldIndex worldIndex = worldIndexes.get(worldName);
+		if (worldIndex == null) {
+			return null;
+		}
+		Long2ObjectMap<LoadedChunk> chunks = worldIndex.byLoader.get(chunkLoader);
+		return chunks == null ? null : chunks.get(chunkPos.toLong());
+	}
+
+	private void addLoadedChunk(LoadedChunk loadedChunk) {
+		WorldIndex worldIndex = worldIndexes.computeIfAbsent(loadedChunk.getWorld(), world -> new WorldIndex());
+		long chunkKey = loadedChunk.getChunk().toLong();
+		worldIndex.byChunk.computeIfAbsent(chunkKey, key -> new ArrayList<>(1)).add(loadedChunk);
+		worldIndex.byLoader.computeIfAbsent(loadedChunk.getChunkLoader(), pos -> new Long2ObjectLinkedOpenHashMap<>()).put(chunkKey, loadedChunk);
+	}
+
+	private void removeLoadedChunk(LoadedChunk loadedChunk) {
+		WorldIndex worldIndex = worldIndexes.get(loadedChunk.getWorld());
+		long chunkKey = loadedChunk.getChunk().toLong();
+
+		// Only holds the loaders of a single chunk, usually one
+		List<LoadedChunk> chunks = worldIndex.byChunk.get(chunkKey);
+		chunks.remove(loadedChunk);
+		if (chunks.isEmpty()) {
+			worldIndex.byChunk.remove(chunkKey);
+		}
+
+		Long2ObjectMap<LoadedChunk> loaderChunks = worldIndex.byLoader.get(loadedChunk.getChunkLoader());
+		loaderChunks.remove(chunkKey);
+		if (loaderChunks.isEmpty()) {
+			worldIndex.byLoader.remove(loadedChunk.getChunkLoader());
+		}
+
+		if (worldIndex.byChunk.isEmpty()) {
+			worldIndexes.remove(loadedChunk.getWorld());
+		}
+	}
+
+	private List<LoadedChunk> getAllLoadedChunks() {
+		List<LoadedChunk> chunks = new ArrayList<>();
+		for (WorldIndex worldIndex : worldIndexes.values()) {
+			for (Long2ObjectMap<LoadedChunk> loaderChunks : worldIndex.byLoader.values()) {
+				chunks.addAll(loaderChunks.values());
+			}
+		}
+		return chunks;
+	}
+
 	public static Identifier getWorldName(World world){
 		return world.getRegistryKey().getValue();
 	}
@@ -167,11 +242,18 @@ public class ChunkLoaderManager extends PersistentState {
 	}
 
 	public void syncChunkLoaderToClient(ServerPlayerEntity serverPlayerEntity, BlockPos chunkLoader){
-		syncToClient(serverPlayerEntity, loadedChunks.stream().filter(loadedChunk -> loadedChunk.getChunkLoader().equals(chunkLoader)).collect(Collectors.toList()));
+		List<LoadedChunk> chunks = new ArrayList<>();
+		for (WorldIndex worldIndex : worldIndexes.values()) {
+			Long2ObjectMap<LoadedChunk> loaderChunks = worldIndex.byLoader.get(chunkLoader);
+			if (loaderChunks != null) {
+				chunks.addAll(loaderChunks.values());
+			}
+		}
+		syncToClient(serverPlayerEntity, chunks);
 	}
 
 	public void syncAllToClient(ServerPlayerEntity serverPlayerEntity) {
-		syncToClient(serverPlayerEntity, loadedChunks);
+		syncToClient(serverPlayerEntity, getAllLoadedChunks());
 	}
 
 	public void clearClient(ServerPlayerEntity serverPlayerEntity) {
@@ -187,6 +269,13 @@ public class ChunkLoaderManager extends PersistentState {
 		world.getChunkManager().addTicket(ChunkLoaderManager.CHUNK_LOADER, chunkPos, RADIUS, chunkPos);
 	}
 
+	private static class WorldIndex {
+		// Chunk pos -> the loaded chunk entries of every loader loading it
+		private final Long2ObjectMap<List<LoadedChunk>> byChunk = new Long2ObjectOpenHashMap<>();
+		// Chunk loader pos -> chunk pos -> loaded chunk entry
+		private final Map<BlockPos, Long2ObjectMap<LoadedChunk>> byLoader = new HashMap<>();
+	}
+
 	public static class LoadedChunk {
 
 		public static Codec<ChunkPos> CHUNK_POS_CODEC = RecordCodecBuilder.create(instance ->
@@ -32,7 +32,6 @@ import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
 import net.minecraft.world.World;
 import reborncore.common.crafting.serde.RecipeSerde;
-import reborncore.common.util.serialization.SerializationUtil;
 
 import java.util.List;
 
@@ -50,7 +49,7 @@ public record RebornRecipeType<R extends RebornRecipe>(
 		return recipeSerde.fromJson(json, this, recipeId);
 	}
 
-	private JsonObject toJson(R recipe) {
+	public JsonObject toJson(R recipe) {
 		JsonObject jsonObject = new JsonObject();
 		jsonObject.addProperty("type", name.toString());
 
@@ -61,18 +60,19 @@ public record RebornRecipeType<R extends RebornRecipe>(
 
 	@Override
 	public R read(Identifier recipeId, PacketByteBuf buffer) {
-		String jsonSize = buffer.readString(buffer.readInt());
-		return read(recipeId, SerializationUtil.GSON_FLAT.fromJson(jsonSize, JsonObject.class));
+		return recipeSerde.fromPacket(buffer, this, recipeId);
 	}
 
 	@Override
 	public void write(PacketByteBuf buffer, R recipe) {
-		String output = SerializationUtil.GSON_FLAT.toJson(toJson(recipe));
-		buffer.writeInt(output.length());
-		buffer.writeString(output);
+		recipeSerde.toPacket(recipe, buffer);
 	}
 
 	public List<R> getRecipes(World world) {
 		return RecipeUtils.getRecipes(world, this);
 	}
+
+	public RecipeIndex<R> getRecipeIndex(World world) {
+		return RecipeUtils.getRecipeIndex(world, this);
+	}
 }
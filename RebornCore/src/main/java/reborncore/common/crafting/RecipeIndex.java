@@ -0,0 +1,179 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2021 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package reborncore.common.crafting;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import reborncore.common.crafting.ingredient.RebornIngredient;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the recipes of a {@link RebornRecipeType} by the items their ingredients accept.
+ * Used to only test the recipes that can possibly match the items present in the input slots.
+ * <p>
+ * An index is bound to a single recipe collection, a new one is built after every recipe reload.
+ * See {@link RecipeUtils#getRecipeIndex}.
+ */
+public class RecipeIndex<R extends RebornRecipe> {
+	private final List<R> recipes;
+	/**
+	 * For each item, the positions of the recipes whose most selective ingredient accepts the item.
+	 */
+	private final Map<Item, IntArrayList> recipesByItem = new Reference2ObjectOpenHashMap<>();
+	/**
+	 * Recipes without any ingredient listing its items, they are always candidates.
+	 */
+	private final BitSet unindexedRecipes = new BitSet();
+	/**
+	 * Items accepted by at least one ingredient that does not look at the NBT, they are always valid inputs.
+	 */
+	private final Set<Item> validInputs = new ReferenceOpenHashSet<>();
+	/**
+	 * For each item, the ingredients that have to be tested against the actual stack because they look at its NBT.
+	 */
+	private final Map<Item, List<RebornIngredient>> nbtIngredientsByItem = new Reference2ObjectOpenHashMap<>();
+	private final List<RebornIngredient> unindexedIngredients = new ArrayList<>();
+
+	RecipeIndex(List<R> recipes) {
+		this.recipes = recipes;
+
+		for (int i = 0; i < recipes.size(); i++) {
+			Collection<Item> selectiveItems = null;
+
+			for (RebornIngredient ingredient : recipes.get(i).getRebornIngredients()) {
+				Collection<Item> items = ingredient.getMatchingItems();
+				if (items == null) {
+					unindexedIngredients.add(ingredient);
+					continue;
+				}
+
+				for (Item item : items) {
+					if (!ingredient.isItemOnly()) {
+						nbtIngredientsByItem.computeIfAbsent(item, key -> new ArrayList<>()).add(ingredient);
+					} else if (!validInputs.contains(item) && ingredient.test(new ItemStack(item, item.getMaxCount()))) {
+						validInputs.add(item);
+					}
+				}
+				if (selectiveItems == null || items.size() < selectiveItems.size()) {
+					selectiveItems = items;
+				}
+			}
+
+			if (selectiveItems == null) {
+				unindexedRecipes.set(i);
+				continue;
+			}
+
+			for (Item item : selectiveItems) {
+				IntArrayList positions = recipesByItem.computeIfAbsent(item, key -> new IntArrayList());
+				if (positions.isEmpty() || positions.getInt(positions.size() - 1) != i) {
+					positions.add(i);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Lists the recipes that can possibly match the given slots, in the same order as {@link RebornRecipeType#getRecipes}.
+	 *
+	 * @param inventory the inventory holding the inputs
+	 * @param slots the input slots
+	 * @return the candidate recipes, the caller still has to test their ingredients
+	 */
+	public List<R> getCandidates(Inventory inventory, int[] slots) {
+		BitSet candidates = (BitSet) unindexedRecipes.clone();
+
+		for (int slot : slots) {
+			ItemStack stack = inventory.getStack(slot);
+			if (stack.isEmpty()) {
+				continue;
+			}
+
+			IntArrayList positions = recipesByItem.get(stack.getItem());
+			if (positions != null) {
+				for (int i = 0; i < positions.size(); i++) {
+					candidates.set(positions.getInt(i));
+				}
+			}
+		}
+
+		List<R> result = new ArrayList<>(candidates.cardinality());
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+			result.add(recipes.get(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Checks if any ingredient of any recipe accepts the stack, regardless of its count.
+	 * This is a single lookup for most items, the stack is only copied for ingredients that depend on the NBT.
+	 *
+	 * @param stack the stack to test
+	 * @return true if the stack is a valid input
+	 */
+	public boolean isValidInput(ItemStack stack) {
+		if (stack.isEmpty()) {
+			return false;
+		}
+		if (validInputs.contains(stack.getItem())) {
+			return true;
+		}
+
+		List<RebornIngredient> ingredients = nbtIngredientsByItem.get(stack.getItem());
+		if (ingredients == null && unindexedIngredients.isEmpty()) {
+			return false;
+		}
+
+		//Test with a stack with the max stack size as some independents will check the stacksize. Bit of a hack but should work.
+		ItemStack largeStack = stack.copy();
+		largeStack.setCount(largeStack.getMaxCount());
+
+		if (ingredients != null) {
+			for (RebornIngredient ingredient : ingredients) {
+				if (ingredient.test(largeStack)) {
+					return true;
+				}
+			}
+		}
+
+		for (RebornIngredient ingredient : unindexedIngredients) {
+			if (ingredient.test(largeStack)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
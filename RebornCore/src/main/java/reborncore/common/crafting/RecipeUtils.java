@@ -47,8 +47,17 @@ import reborncore.mixin.common.AccessorRecipeManager;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class RecipeUtils {
+	/**
+	 * The latest recipe index of each type, one per side as the client and the integrated server have their own recipe managers.
+	 * The recipe manager replaces its maps on reload, an index is rebuilt once the map it was built from is no longer current.
+	 */
+	private static final Map<RebornRecipeType<?>, CachedIndex> SERVER_INDEXES = new ConcurrentHashMap<>();
+	private static final Map<RebornRecipeType<?>, CachedIndex> CLIENT_INDEXES = new ConcurrentHashMap<>();
+
 	@SuppressWarnings("unchecked")
 	public static <T extends RebornRecipe> List<T> getRecipes(World world, RebornRecipeType<T> type) {
 		final AccessorRecipeManager accessorRecipeManager = (AccessorRecipeManager) world.getRecipeManager();
@@ -57,6 +66,22 @@ public class RecipeUtils {
 		return Collections.unmodifiableList((List<T>) (Object) recipes);
 	}
 
+	@SuppressWarnings("unchecked")
+	public static <T extends RebornRecipe> RecipeIndex<T> getRecipeIndex(World world, RebornRecipeType<T> type) {
+		final AccessorRecipeManager accessorRecipeManager = (AccessorRecipeManager) world.getRecipeManager();
+		final Map<Identifier, Recipe<Inventory>> recipes = accessorRecipeManager.getAll(type);
+		final Map<RebornRecipeType<?>, CachedIndex> indexes = world.isClient ? CLIENT_INDEXES : SERVER_INDEXES;
+		CachedIndex cached = indexes.get(type);
+		if (cached == null || cached.recipes() != recipes) {
+			cached = new CachedIndex(recipes, new RecipeIndex<>(getRecipes(world, type)));
+			indexes.put(type, cached);
+		}
+		return (RecipeIndex<T>) cached.index();
+	}
+
+	private record CachedIndex(Map<Identifier, ?> recipes, RecipeIndex<?> index) {
+	}
+
 	public static DefaultedList<ItemStack> deserializeItems(JsonElement jsonObject) {
 		if (jsonObject.isJsonArray()) {
 			return SerializationUtil.stream(jsonObject.getAsJsonArray()).map(entry -> deserializeItem(entry.getAsJsonObject())).collect(DefaultedListCollector.toList());
@@ -25,10 +25,12 @@
 package reborncore.common.crafting.ingredient;
 
 import com.google.gson.JsonObject;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.recipe.Ingredient;
 import net.minecraft.util.Identifier;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -62,4 +64,14 @@ public class DummyIngredient extends RebornIngredient {
 	public int getCount() {
 		return 0;
 	}
+
+	@Override
+	public Collection<Item> getMatchingItems() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public boolean isItemOnly() {
+		return true;
+	}
 }
@@ -33,6 +33,7 @@ import net.minecraft.fluid.Fluids;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.recipe.Ingredient;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
@@ -41,6 +42,7 @@ import net.minecraft.util.registry.Registry;
 import reborncore.common.fluid.container.ItemFluidInfo;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -112,6 +114,16 @@ public class FluidIngredient extends RebornIngredient {
 		return new FluidIngredient(fluid, holders, count);
 	}
 
+	public static RebornIngredient fromPacket(PacketByteBuf buf) {
+		Fluid fluid = Registry.FLUID.get(buf.readVarInt());
+		Optional<List<Item>> holders = Optional.empty();
+		if (buf.readBoolean()) {
+			holders = Optional.of(buf.readCollection(ArrayList::new, holderBuf -> Item.byRawId(holderBuf.readVarInt())));
+		}
+		int count = buf.readVarInt();
+		return new FluidIngredient(fluid, holders, count > 0 ? Optional.of(count) : Optional.empty());
+	}
+
 	@Override
 	public boolean test(ItemStack itemStack) {
 		if (holders.isPresent() && holders.get().stream().noneMatch(item -> itemStack.getItem() == item)) {
@@ -154,8 +166,27 @@ public class FluidIngredient extends RebornIngredient {
 		return jsonObject;
 	}
 
+	@Override
+	public boolean writesPacket() {
+		return true;
+	}
+
+	@Override
+	protected void toPacket(PacketByteBuf buf) {
+		buf.writeVarInt(Registry.FLUID.getRawId(fluid));
+		buf.writeBoolean(holders.isPresent());
+		holders.ifPresent(holderList -> buf.writeCollection(holderList, (holderBuf, item) -> holderBuf.writeVarInt(Item.getRawId(item))));
+		buf.writeVarInt(count.orElse(0));
+	}
+
 	@Override
 	public int getCount() {
 		return count.orElse(1);
 	}
+
+	@Override
+	public Collection<Item> getMatchingItems() {
+		// The preview stacks already cover every fluid container that can hold this fluid
+		return previewStacks.get().stream().map(ItemStack::getItem).collect(Collectors.toList());
+	}
 }
@@ -27,11 +27,15 @@ package reborncore.common.crafting.ingredient;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
 import org.jetbrains.annotations.Nullable;
+import reborncore.common.util.serialization.SerializationUtil;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.function.Function;
 
 public class IngredientManager {
@@ -43,11 +47,49 @@ public class IngredientManager {
 
 	private static final HashMap<Identifier, Function<JsonObject, RebornIngredient>> recipeTypes = new HashMap<>();
 
+	// Indexed by the id written before each ingredient in packets, both sides register them in the same order
+	private static final List<Identifier> packetTypes = new ArrayList<>();
+	private static final List<Function<PacketByteBuf, RebornIngredient>> packetReaders = new ArrayList<>();
+
 	public static void setup() {
 		recipeTypes.put(STACK_RECIPE_TYPE, StackIngredient::deserialize);
 		recipeTypes.put(FLUID_RECIPE_TYPE, FluidIngredient::deserialize);
 		recipeTypes.put(TAG_RECIPE_TYPE, TagIngredient::deserialize);
 		recipeTypes.put(WRAPPED_RECIPE_TYPE, WrappedIngredient::deserialize);
+
+		registerPacketReader(STACK_RECIPE_TYPE, StackIngredient::fromPacket);
+		registerPacketReader(FLUID_RECIPE_TYPE, FluidIngredient::fromPacket);
+		registerPacketReader(TAG_RECIPE_TYPE, TagIngredient::fromPacket);
+		registerPacketReader(WRAPPED_RECIPE_TYPE, WrappedIngredient::fromPacket);
+	}
+
+	private static void registerPacketReader(Identifier type, Function<PacketByteBuf, RebornIngredient> reader) {
+		packetTypes.add(type);
+		packetReaders.add(reader);
+	}
+
+	/**
+	 * Writes an ingredient, in binary if it has a packet format and its type has a packet reader, as json otherwise
+	 *
+	 * @param ingredient the ingredient to write
+	 * @param buf the buffer to write to
+	 */
+	public static void toPacket(RebornIngredient ingredient, PacketByteBuf buf) {
+		int packetType = ingredient.writesPacket() ? packetTypes.indexOf(ingredient.getIngredientType()) : -1;
+		buf.writeVarInt(packetType + 1);
+		if (packetType == -1) {
+			buf.writeString(SerializationUtil.GSON_FLAT.toJson(ingredient.witeToJson()), Integer.MAX_VALUE);
+		} else {
+			ingredient.toPacket(buf);
+		}
+	}
+
+	public static RebornIngredient fromPacket(PacketByteBuf buf) {
+		int packetType = buf.readVarInt() - 1;
+		if (packetType == -1) {
+			return deserialize(SerializationUtil.GSON_FLAT.fromJson(buf.readString(Integer.MAX_VALUE), JsonObject.class));
+		}
+		return packetReaders.get(packetType).apply(buf);
 	}
 
 	public static RebornIngredient deserialize(@Nullable JsonElement jsonElement) {
@@ -25,10 +25,14 @@
 package reborncore.common.crafting.ingredient;
 
 import com.google.gson.JsonObject;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.recipe.Ingredient;
 import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -52,6 +56,46 @@ public abstract class RebornIngredient implements Predicate<ItemStack> {
 
 	public abstract int getCount();
 
+	/**
+	 * Lists the items that can possibly pass {@link #test(ItemStack)}, used to index recipes by item.
+	 *
+	 * @return the matching items, or null if they cannot be listed
+	 */
+	@Nullable
+	public Collection<Item> getMatchingItems() {
+		return null;
+	}
+
+	/**
+	 * Used to cache the result of {@link #test(ItemStack)} per item.
+	 *
+	 * @return true if the test only depends on the item and the count of the stack, and never on its NBT
+	 */
+	public boolean isItemOnly() {
+		return false;
+	}
+
+	/**
+	 * Ingredients that don't have a binary packet format are synced as json.
+	 *
+	 * @return true if {@link #toPacket(PacketByteBuf)} writes this ingredient for the packet reader registered with its type in {@link IngredientManager}
+	 */
+	public boolean writesPacket() {
+		return false;
+	}
+
+	/**
+	 * Writes this ingredient in its binary packet format, only called if {@link #writesPacket()} returns true.
+	 *
+	 * @param buf the buffer to write to
+	 */
+	protected void toPacket(PacketByteBuf buf) {
+	}
+
+	public Identifier getIngredientType() {
+		return ingredientType;
+	}
+
 	//Same as above but adds the type
 	public final JsonObject witeToJson() {
 		JsonObject jsonObject = toJson();
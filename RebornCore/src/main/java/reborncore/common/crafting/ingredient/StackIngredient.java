@@ -33,6 +33,7 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtOps;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.recipe.Ingredient;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
@@ -40,6 +41,7 @@ import net.minecraft.util.registry.Registry;
 import org.apache.commons.lang3.Validate;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -91,6 +93,14 @@ public class StackIngredient extends RebornIngredient {
 		return new StackIngredient(Collections.singletonList(new ItemStack(item)), stackSize, tag, requireEmptyTag);
 	}
 
+	public static RebornIngredient fromPacket(PacketByteBuf buf) {
+		Item item = Item.byRawId(buf.readVarInt());
+		int count = buf.readVarInt();
+		boolean requireEmptyNbt = buf.readBoolean();
+		NbtCompound nbt = buf.readNbt();
+		return new StackIngredient(Collections.singletonList(new ItemStack(item)), count > 0 ? Optional.of(count) : Optional.empty(), Optional.ofNullable(nbt), requireEmptyNbt);
+	}
+
 
 	@Override
 	public boolean test(ItemStack itemStack) {
@@ -153,8 +163,31 @@ public class StackIngredient extends RebornIngredient {
 		return jsonObject;
 	}
 
+	@Override
+	public boolean writesPacket() {
+		return true;
+	}
+
+	@Override
+	protected void toPacket(PacketByteBuf buf) {
+		buf.writeVarInt(Item.getRawId(stacks.get(0).getItem()));
+		buf.writeVarInt(count.orElse(0));
+		buf.writeBoolean(requireEmptyNbt);
+		buf.writeNbt(nbt.orElse(null));
+	}
+
 	@Override
 	public int getCount() {
 		return count.orElse(1);
 	}
+
+	@Override
+	public Collection<Item> getMatchingItems() {
+		return stacks.stream().map(ItemStack::getItem).collect(Collectors.toList());
+	}
+
+	@Override
+	public boolean isItemOnly() {
+		return nbt.isEmpty() && !requireEmptyNbt;
+	}
 }
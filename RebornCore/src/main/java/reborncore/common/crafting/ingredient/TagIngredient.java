@@ -30,6 +30,7 @@ import net.fabricmc.fabric.api.tag.TagFactory;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.recipe.Ingredient;
 import net.minecraft.tag.ServerTagManagerHolder;
 import net.minecraft.tag.Tag;
@@ -39,6 +40,7 @@ import net.minecraft.util.registry.Registry;
 import org.apache.commons.lang3.Validate;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -103,6 +105,13 @@ public class TagIngredient extends RebornIngredient {
 		return new TagIngredient(tag, count);
 	}
 
+	public static RebornIngredient fromPacket(PacketByteBuf buf) {
+		Identifier tagIdent = buf.readIdentifier();
+		int count = buf.readVarInt();
+		List<Item> items = buf.readCollection(ArrayList::new, itemBuf -> Item.byRawId(itemBuf.readVarInt()));
+		return new TagIngredient(new SimpleTag<>(items, tagIdent), count > 0 ? Optional.of(count) : Optional.empty());
+	}
+
 	@Override
 	public JsonObject toJson() {
 		//Tags are not synced across the server so we sync all the items
@@ -120,8 +129,31 @@ public class TagIngredient extends RebornIngredient {
 		return jsonObject;
 	}
 
+	@Override
+	public boolean writesPacket() {
+		return true;
+	}
+
+	@Override
+	protected void toPacket(PacketByteBuf buf) {
+		//Tags are not synced before recipes, so the items are synced by raw id along with the tag id
+		buf.writeIdentifier(tag.getId());
+		buf.writeVarInt(count.orElse(0));
+		buf.writeCollection(tag.values(), (itemBuf, item) -> itemBuf.writeVarInt(Item.getRawId(item)));
+	}
+
 	@Override
 	public int getCount() {
 		return count.orElse(1);
 	}
+
+	@Override
+	public Collection<Item> getMatchingItems() {
+		return tag.values();
+	}
+
+	@Override
+	public boolean isItemOnly() {
+		return true;
+	}
 }
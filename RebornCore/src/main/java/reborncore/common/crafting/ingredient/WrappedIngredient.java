@@ -26,11 +26,15 @@ package reborncore.common.crafting.ingredient;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.recipe.Ingredient;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class WrappedIngredient extends RebornIngredient {
 	private Ingredient wrapped;
@@ -69,11 +73,31 @@ public class WrappedIngredient extends RebornIngredient {
 		return jsonObject;
 	}
 
+	@Override
+	public boolean writesPacket() {
+		return true;
+	}
+
+	@Override
+	protected void toPacket(PacketByteBuf buf) {
+		wrapped.write(buf);
+	}
+
 	@Override
 	public int getCount() {
 		return wrapped.getMatchingStacks().length;
 	}
 
+	@Override
+	public Collection<Item> getMatchingItems() {
+		return Arrays.stream(wrapped.getMatchingStacks()).map(ItemStack::getItem).collect(Collectors.toList());
+	}
+
+	@Override
+	public boolean isItemOnly() {
+		return true;
+	}
+
 	public static RebornIngredient deserialize(JsonObject jsonObject) {
 		Ingredient underlying;
 		if (jsonObject.has("options") && jsonObject.get("options") instanceof JsonArray) {
@@ -83,4 +107,8 @@ public class WrappedIngredient extends RebornIngredient {
 		}
 		return new WrappedIngredient(underlying);
 	}
+
+	public static RebornIngredient fromPacket(PacketByteBuf buf) {
+		return new WrappedIngredient(Ingredient.fromPacket(buf));
+	}
 }
@@ -30,6 +30,8 @@ import com.mojang.serialization.Dynamic;
 import com.mojang.serialization.JsonOps;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtOps;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.util.collection.DefaultedList;
 import net.minecraft.util.JsonHelper;
 import net.minecraft.util.registry.Registry;
 import reborncore.common.crafting.RebornRecipe;
@@ -39,6 +41,7 @@ import reborncore.common.crafting.ingredient.RebornIngredient;
 import reborncore.common.util.DefaultedListCollector;
 import reborncore.common.util.serialization.SerializationUtil;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public abstract class AbstractRecipeSerde<R extends RebornRecipe> implements RecipeSerde<R> {
@@ -61,6 +64,14 @@ public abstract class AbstractRecipeSerde<R extends RebornRecipe> implements Rec
 		return RecipeUtils.deserializeItems(resultsJson);
 	}
 
+	protected List<RebornIngredient> readIngredients(PacketByteBuf buf) {
+		return buf.readCollection(size -> DefaultedList.of(), IngredientManager::fromPacket);
+	}
+
+	protected List<ItemStack> readOutputs(PacketByteBuf buf) {
+		return buf.readCollection(ArrayList::new, PacketByteBuf::readItemStack);
+	}
+
 	protected void writeIngredients(R recipe, JsonObject jsonObject) {
 		final JsonArray ingredientsArray = new JsonArray();
 		recipe.getRebornIngredients().stream().map(RebornIngredient::witeToJson).forEach(ingredientsArray::add);
@@ -87,6 +98,14 @@ public abstract class AbstractRecipeSerde<R extends RebornRecipe> implements Rec
 		jsonObject.add("results", resultsArray);
 	}
 
+	protected void writeIngredients(R recipe, PacketByteBuf buf) {
+		buf.writeCollection(recipe.getRebornIngredients(), (ingredientBuf, ingredient) -> IngredientManager.toPacket(ingredient, ingredientBuf));
+	}
+
+	protected void writeOutputs(R recipe, PacketByteBuf buf) {
+		buf.writeCollection(recipe.getOutputs(), PacketByteBuf::writeItemStack);
+	}
+
 	protected void writePower(R recipe, JsonObject jsonObject) {
 		jsonObject.addProperty("power", recipe.getPower());
 	}
@@ -27,6 +27,7 @@ package reborncore.common.crafting.serde;
 import com.google.gson.JsonObject;
 import net.minecraft.fluid.Fluid;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
 import net.minecraft.util.registry.Registry;
@@ -67,6 +68,20 @@ public abstract class RebornFluidRecipeSerde<R extends RebornFluidRecipe> extend
 		jsonObject.add("tank", tankObject);
 	}
 
+	@Override
+	protected R fromPacket(PacketByteBuf buf, RebornRecipeType<R> type, Identifier name, List<RebornIngredient> ingredients, List<ItemStack> outputs, int power, int time) {
+		final Fluid fluid = Registry.FLUID.get(buf.readVarInt());
+		final FluidValue value = FluidValue.fromRaw(buf.readVarLong());
+
+		return fromJson(new JsonObject(), type, name, ingredients, outputs, power, time, new FluidInstance(fluid, value));
+	}
+
+	@Override
+	protected void writePacketData(R recipe, PacketByteBuf buf) {
+		buf.writeVarInt(Registry.FLUID.getRawId(recipe.getFluidInstance().getFluid()));
+		buf.writeVarLong(recipe.getFluidInstance().getAmount().getRawValue());
+	}
+
 	public static <R extends RebornFluidRecipe> RebornFluidRecipeSerde<R> create(SimpleFluidRecipeFactory<R> factory) {
 		return new RebornFluidRecipeSerde<>() {
 			@Override
@@ -26,10 +26,12 @@ package reborncore.common.crafting.serde;
 
 import com.google.gson.JsonObject;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.Identifier;
 import reborncore.common.crafting.RebornRecipe;
 import reborncore.common.crafting.RebornRecipeType;
 import reborncore.common.crafting.ingredient.RebornIngredient;
+import reborncore.common.util.serialization.SerializationUtil;
 
 import java.util.List;
 
@@ -60,6 +62,43 @@ public abstract class RebornRecipeSerde<R extends RebornRecipe> extends Abstract
 		collectJsonData(recipe, jsonObject);
 	}
 
+	/**
+	 * Reads the data written by {@link #writePacketData}, by default the json from {@link #collectJsonData}
+	 */
+	protected R fromPacket(PacketByteBuf buf, RebornRecipeType<R> type, Identifier name, List<RebornIngredient> ingredients, List<ItemStack> outputs, int power, int time) {
+		final JsonObject jsonObject = SerializationUtil.GSON_FLAT.fromJson(buf.readString(Integer.MAX_VALUE), JsonObject.class);
+		return fromJson(jsonObject, type, name, ingredients, outputs, power, time);
+	}
+
+	@Override
+	public final R fromPacket(PacketByteBuf buf, RebornRecipeType<R> type, Identifier name) {
+		final int power = buf.readVarInt();
+		final int time = buf.readVarInt();
+		final List<RebornIngredient> ingredients = readIngredients(buf);
+		final List<ItemStack> outputs = readOutputs(buf);
+
+		return fromPacket(buf, type, name, ingredients, outputs, power, time);
+	}
+
+	/**
+	 * Writes the recipe specific data, serdes with extra fields should override this along with the matching fromPacket
+	 */
+	protected void writePacketData(R recipe, PacketByteBuf buf) {
+		final JsonObject jsonObject = new JsonObject();
+		collectJsonData(recipe, jsonObject);
+		buf.writeString(SerializationUtil.GSON_FLAT.toJson(jsonObject), Integer.MAX_VALUE);
+	}
+
+	@Override
+	public final void toPacket(R recipe, PacketByteBuf buf) {
+		buf.writeVarInt(recipe.getPower());
+		buf.writeVarInt(recipe.getTime());
+		writeIngredients(recipe, buf);
+		writeOutputs(recipe, buf);
+
+		writePacketData(recipe, buf);
+	}
+
 	public static <R extends RebornRecipe> RebornRecipeSerde<R> create(SimpleRecipeFactory<R> factory) {
 		return new RebornRecipeSerde<R>() {
 			@Override
@@ -70,6 +109,15 @@ public abstract class RebornRecipeSerde<R extends RebornRecipe> extends Abstract
 			@Override
 			protected void collectJsonData(R recipe, JsonObject jsonObject) {
 			}
+
+			@Override
+			protected R fromPacket(PacketByteBuf buf, RebornRecipeType<R> type, Identifier name, List<RebornIngredient> ingredients, List<ItemStack> outputs, int power, int time) {
+				return factory.create(type, name, ingredients, outputs, power, time);
+			}
+
+			@Override
+			protected void writePacketData(R recipe, PacketByteBuf buf) {
+			}
 		};
 	}
 
@@ -25,12 +25,25 @@
 package reborncore.common.crafting.serde;
 
 import com.google.gson.JsonObject;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.Identifier;
 import reborncore.common.crafting.RebornRecipe;
 import reborncore.common.crafting.RebornRecipeType;
+import reborncore.common.util.serialization.SerializationUtil;
 
 public interface RecipeSerde<R extends RebornRecipe> {
 	R fromJson(JsonObject jsonObject, RebornRecipeType<R> type, Identifier name);
 
 	void toJson(R recipe, JsonObject jsonObject);
+
+	// Syncs the recipe as json by default, serdes with a binary format override both of these
+	default R fromPacket(PacketByteBuf buf, RebornRecipeType<R> type, Identifier name) {
+		return fromJson(SerializationUtil.GSON_FLAT.fromJson(buf.readString(Integer.MAX_VALUE), JsonObject.class), type, name);
+	}
+
+	default void toPacket(R recipe, PacketByteBuf buf) {
+		JsonObject jsonObject = new JsonObject();
+		toJson(recipe, jsonObject);
+		buf.writeString(SerializationUtil.GSON_FLAT.toJson(jsonObject), Integer.MAX_VALUE);
+	}
 }
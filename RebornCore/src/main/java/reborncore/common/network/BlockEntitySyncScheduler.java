@@ -0,0 +1,125 @@
+/*
+ * This file is part of RebornCore, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2021 TeamReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package reborncore.common.network;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import reborncore.api.blockentity.DeltaSyncable;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Coalesces the {@link DeltaSyncable} updates of block entities and sends them at the end of the world tick.
+ * A block entity is sent at most once every {@link #MIN_INTERVAL} ticks however often it changes,
+ * and a player receives at most {@link #MAX_UPDATES_PER_PLAYER} updates per tick, the others wait for the next ticks.
+ */
+public final class BlockEntitySyncScheduler {
+
+	public static final int MIN_INTERVAL = 4;
+	public static final int MAX_UPDATES_PER_PLAYER = 32;
+
+	// Cleared when the world unloads, the queued block entities reference their world
+	private static final Map<ServerWorld, WorldQueue> QUEUES = new HashMap<>();
+
+	private BlockEntitySyncScheduler() {
+	}
+
+	/**
+	 * Queues an update of the block entity for every player tracking it, does nothing on the client.
+	 */
+	public static <T extends BlockEntity & DeltaSyncable> void markDirty(T blockEntity) {
+		if (blockEntity.getWorld() instanceof ServerWorld world) {
+			QUEUES.computeIfAbsent(world, w -> new WorldQueue()).dirty.add(blockEntity);
+		}
+	}
+
+	public static void onWorldUnload(ServerWorld world) {
+		QUEUES.remove(world);
+	}
+
+	public static void flush(ServerWorld world) {
+		WorldQueue queue = QUEUES.get(world);
+		if (queue == null) {
+			return;
+		}
+		long time = world.getTime();
+		queue.sentThisTick.clear();
+		queue.lastSent.reference2LongEntrySet().removeIf(entry -> time - entry.getLongValue() >= MIN_INTERVAL);
+		if (queue.dirty.isEmpty()) {
+			return;
+		}
+
+		Iterator<BlockEntity> iterator = queue.dirty.iterator();
+		while (iterator.hasNext()) {
+			BlockEntity blockEntity = iterator.next();
+			if (blockEntity.isRemoved()) {
+				iterator.remove();
+				continue;
+			}
+			if (queue.lastSent.containsKey(blockEntity)) {
+				continue;
+			}
+
+			IdentifiedPacket packet = null;
+			boolean sentToAll = true;
+			for (ServerPlayerEntity player : PlayerLookup.tracking(blockEntity)) {
+				int sent = queue.sentThisTick.getInt(player);
+				if (sent >= MAX_UPDATES_PER_PLAYER) {
+					sentToAll = false;
+					continue;
+				}
+				if (packet == null) {
+					packet = ClientBoundPackets.createPacketDeltaSync(blockEntity.getPos(), (DeltaSyncable) blockEntity);
+				}
+				NetworkManager.sendToPlayer(packet, player);
+				queue.sentThisTick.put(player, sent + 1);
+			}
+
+			if (packet != null) {
+				queue.lastSent.put(blockEntity, time);
+			}
+			// Sent again later when a player was over its budget, the others get a redundant update
+			if (sentToAll) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private static class WorldQueue {
+		private final ReferenceLinkedOpenHashSet<BlockEntity> dirty = new ReferenceLinkedOpenHashSet<>();
+		// Only holds the block entities sent in the last MIN_INTERVAL ticks
+		private final Reference2LongMap<BlockEntity> lastSent = new Reference2LongOpenHashMap<>();
+		private final Reference2IntMap<ServerPlayerEntity> sentThisTick = new Reference2IntOpenHashMap<>();
+	}
+}
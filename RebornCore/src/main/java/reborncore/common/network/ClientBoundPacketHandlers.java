@@ -33,6 +33,7 @@ import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.gui.screen.ingame.HandledScreen;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.screen.ScreenHandler;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
@@ -40,13 +41,14 @@ import net.minecraft.world.World;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import reborncore.RebornCore;
+import reborncore.api.blockentity.DeltaSyncable;
 import reborncore.client.ClientChunkManager;
 import reborncore.client.screen.builder.BuiltScreenHandler;
 import reborncore.common.blockentity.FluidConfiguration;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
-import reborncore.common.blockentity.SlotConfiguration;
 import reborncore.common.chunkloading.ChunkLoaderManager;
 
+import java.util.BitSet;
 import java.util.List;
 
 @Environment(EnvType.CLIENT)
@@ -91,19 +93,45 @@ public class ClientBoundPacketHandlers {
 
 		NetworkManager.registerClientBoundHandler(new Identifier("reborncore", "slot_sync"), (client, handler, packetBuffer, responseSender) -> {
 			BlockPos pos = packetBuffer.readBlockPos();
-			NbtCompound compoundTag = packetBuffer.readNbt();
+			int slotCount = packetBuffer.readVarInt();
+			BitSet slotBits = BitSet.valueOf(packetBuffer.readLongArray(null));
 
 			client.execute(() -> {
-				SlotConfiguration slotConfig = new SlotConfiguration(compoundTag);
 				if (!MinecraftClient.getInstance().world.isChunkLoaded(pos)) {
 					return;
 				}
-				MachineBaseBlockEntity machineBase = (MachineBaseBlockEntity) MinecraftClient.getInstance().world.getBlockEntity(pos);
-				if (machineBase == null || machineBase.getSlotConfiguration() == null || slotConfig == null || slotConfig.getSlotDetails() == null) {
+				BlockEntity blockEntity = MinecraftClient.getInstance().world.getBlockEntity(pos);
+				if (!(blockEntity instanceof MachineBaseBlockEntity machineBase) || machineBase.getOptionalInventory().isEmpty()) {
 					RebornCore.LOGGER.error("Failed to sync slot data to " + pos);
 					return;
 				}
-				MinecraftClient.getInstance().execute(() -> slotConfig.getSlotDetails().forEach(slotConfigHolder -> machineBase.getSlotConfiguration().updateSlotDetails(slotConfigHolder)));
+				machineBase.getSlotConfiguration().readBitSet(slotCount, slotBits);
+			});
+		});
+
+		NetworkManager.registerClientBoundHandler(new Identifier("reborncore", "multiblock_sync"), (client, handler, packetBuffer, responseSender) -> {
+			BlockPos pos = packetBuffer.readBlockPos();
+			boolean valid = packetBuffer.readBoolean();
+
+			client.execute(() -> {
+				World world = MinecraftClient.getInstance().world;
+				if (world.isChunkLoaded(pos) && world.getBlockEntity(pos) instanceof MachineBaseBlockEntity machineBase) {
+					machineBase.setMultiblockValid(valid);
+				}
+			});
+		});
+
+		NetworkManager.registerClientBoundHandler(new Identifier("reborncore", "delta_sync"), (client, handler, packetBuffer, responseSender) -> {
+			BlockPos pos = packetBuffer.readBlockPos();
+			// Copied as the packet buffer is released once this handler returns
+			PacketByteBuf delta = new PacketByteBuf(packetBuffer.readBytes(packetBuffer.readableBytes()));
+
+			client.execute(() -> {
+				World world = MinecraftClient.getInstance().world;
+				if (world != null && world.isChunkLoaded(pos) && world.getBlockEntity(pos) instanceof DeltaSyncable deltaSyncable) {
+					deltaSyncable.readDelta(delta);
+				}
+				delta.release();
 			});
 		});
 
@@ -24,17 +24,18 @@
 
 package reborncore.common.network;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.screen.ScreenHandler;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
+import reborncore.api.blockentity.DeltaSyncable;
 import reborncore.common.blockentity.FluidConfiguration;
 import reborncore.common.blockentity.SlotConfiguration;
 import reborncore.common.chunkloading.ChunkLoaderManager;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public class ClientBoundPackets {
 
@@ -59,17 +60,33 @@ public class ClientBoundPackets {
 	public static IdentifiedPacket createPacketSlotSync(BlockPos pos, SlotConfiguration slotConfig) {
 		return NetworkManager.createClientBoundPacket(new Identifier("reborncore", "slot_sync"), packetBuffer -> {
 			packetBuffer.writeBlockPos(pos);
-			packetBuffer.writeNbt(slotConfig.write());
+			packetBuffer.writeVarInt(slotConfig.getSlotCount());
+			packetBuffer.writeLongArray(slotConfig.toBitSet().toLongArray());
 		});
 	}
 
-	public static IdentifiedPacket createPacketSendObject(ScreenHandler screenHandler, Int2ObjectMap<Object> updatedValues) {
+	public static IdentifiedPacket createPacketDeltaSync(BlockPos pos, DeltaSyncable deltaSyncable) {
+		return NetworkManager.createClientBoundPacket(new Identifier("reborncore", "delta_sync"), packetBuffer -> {
+			packetBuffer.writeBlockPos(pos);
+			deltaSyncable.writeDelta(packetBuffer);
+		});
+	}
+
+	public static IdentifiedPacket createPacketMultiblockSync(BlockPos pos, boolean valid) {
+		return NetworkManager.createClientBoundPacket(new Identifier("reborncore", "multiblock_sync"), packetBuffer -> {
+			packetBuffer.writeBlockPos(pos);
+			packetBuffer.writeBoolean(valid);
+		});
+	}
+
+	/**
+	 * @param count        the number of values
+	 * @param valuesWriter writes the id then the value, in the {@link ObjectBufferUtils} format, of every value
+	 */
+	public static IdentifiedPacket createPacketSendObject(ScreenHandler screenHandler, int count, Consumer<ExtendedPacketBuffer> valuesWriter) {
 		return NetworkManager.createClientBoundPacket(new Identifier("reborncore", "send_object"), packetBuffer -> {
-			packetBuffer.writeInt(updatedValues.size());
-			updatedValues.forEach((integer, o) -> {
-				packetBuffer.writeInt(integer);
-				packetBuffer.writeObject(o);
-			});
+			packetBuffer.writeInt(count);
+			valuesWriter.accept(packetBuffer);
 			packetBuffer.writeInt(screenHandler.getClass().getName().length());
 			packetBuffer.writeString(screenHandler.getClass().getName());
 		});
@@ -31,7 +31,8 @@ import net.minecraft.util.math.BlockPos;
 import reborncore.common.fluid.FluidValue;
 
 import java.math.BigInteger;
-import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 public enum ObjectBufferUtils {
@@ -85,6 +86,14 @@ public enum ObjectBufferUtils {
 		buffer.writeNbt(value);
 	}, PacketByteBuf::readNbt);
 
+	private static final Map<Class<?>, ObjectBufferUtils> BY_CLASS = new IdentityHashMap<>();
+
+	static {
+		for (ObjectBufferUtils utils : values()) {
+			BY_CLASS.put(utils.clazz, utils);
+		}
+	}
+
 	Class clazz;
 	ObjectWriter writer;
 	ObjectReader reader;
@@ -96,12 +105,29 @@ public enum ObjectBufferUtils {
 	}
 
 	public static void writeObject(Object object, ExtendedPacketBuffer buffer) {
-		ObjectBufferUtils utils = Arrays.stream(values()).filter(objectBufferUtils -> objectBufferUtils.clazz == object.getClass()).findFirst().orElse(null);
+		ObjectBufferUtils utils = BY_CLASS.get(object.getClass());
 		Objects.requireNonNull(utils, "No support found for " + object.getClass());
 		buffer.writeInt(utils.ordinal());
 		utils.writer.write(object, buffer);
 	}
 
+	// Same wire format as writeObject, without boxing the value
+
+	public static void writeInt(int value, ExtendedPacketBuffer buffer) {
+		buffer.writeInt(INT.ordinal());
+		buffer.writeInt(value);
+	}
+
+	public static void writeLong(long value, ExtendedPacketBuffer buffer) {
+		buffer.writeInt(LONG.ordinal());
+		buffer.writeLong(value);
+	}
+
+	public static void writeDouble(double value, ExtendedPacketBuffer buffer) {
+		buffer.writeInt(DOUBLE.ordinal());
+		buffer.writeDouble(value);
+	}
+
 	public static Object readObject(ExtendedPacketBuffer buffer) {
 		ObjectBufferUtils utils = values()[buffer.readInt()];
 		Objects.requireNonNull(utils, "Could not find reader");
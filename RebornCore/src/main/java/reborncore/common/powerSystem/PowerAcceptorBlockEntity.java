@@ -24,6 +24,7 @@
 
 package reborncore.common.powerSystem;
 
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiCache;
 import net.fabricmc.fabric.api.transfer.v1.context.ContainerItemContext;
 import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
 import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
@@ -34,6 +35,7 @@ import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.inventory.Inventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
 import net.minecraft.util.Formatting;
@@ -54,6 +56,8 @@ import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 public abstract class PowerAcceptorBlockEntity extends MachineBaseBlockEntity implements IListInfoProvider {
+	private static final Direction[] DIRECTIONS = Direction.values();
+
 	private final SimpleSidedEnergyContainer energyContainer = new SimpleSidedEnergyContainer() {
 		@Override
 		public long getCapacity() {
@@ -71,6 +75,15 @@ public abstract class PowerAcceptorBlockEntity extends MachineBaseBlockEntity im
 		}
 	};
 	private RcEnergyTier blockEntityPowerTier;
+	/**
+	 * Caches of the adjacent energy storages, created on first use and indexed by {@link Direction#ordinal()}.
+	 */
+	@SuppressWarnings("unchecked")
+	private final BlockApiCache<EnergyStorage, Direction>[] neighborEnergyCaches = new BlockApiCache[6];
+	/**
+	 * Bitmask of the sides where no energy storage was found, they are skipped until the next neighbor update.
+	 */
+	private int missingNeighborSides = 0;
 
 	public long extraPowerStorage;
 	public long extraPowerInput;
@@ -328,10 +341,27 @@ public abstract class PowerAcceptorBlockEntity extends MachineBaseBlockEntity im
 			return;
 		}
 
-		for (Direction side : Direction.values()) {
+		for (Direction side : DIRECTIONS) {
+			int sideMask = 1 << side.ordinal();
+			if ((missingNeighborSides & sideMask) != 0) {
+				continue;
+			}
+
+			BlockApiCache<EnergyStorage, Direction> cache = neighborEnergyCaches[side.ordinal()];
+			if (cache == null) {
+				cache = BlockApiCache.create(EnergyStorage.SIDED, (ServerWorld) world, pos.offset(side));
+				neighborEnergyCaches[side.ordinal()] = cache;
+			}
+
+			EnergyStorage neighbor = cache.find(side.getOpposite());
+			if (neighbor == null) {
+				missingNeighborSides |= sideMask;
+				continue;
+			}
+
 			EnergyStorageUtil.move(
 					getSideEnergyStorage(side),
-					EnergyStorage.SIDED.find(world, pos.offset(side), side.getOpposite()),
+					neighbor,
 					Long.MAX_VALUE,
 					null
 			);
@@ -341,6 +371,12 @@ public abstract class PowerAcceptorBlockEntity extends MachineBaseBlockEntity im
 		powerLastTick = getStored();
 	}
 
+	@Override
+	public void onNeighborUpdate(BlockPos fromPos) {
+		super.onNeighborUpdate(fromPos);
+		missingNeighborSides = 0;
+	}
+
 	@Override
 	public void readNbt(NbtCompound tag) {
 		super.readNbt(tag);
@@ -24,6 +24,7 @@
 
 package reborncore.common.recipes;
 
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.item.ItemStack;
@@ -97,6 +98,19 @@ public class RecipeCrafter implements IUpgradeHandler {
 
 	int ticksSinceLastChange;
 
+	/**
+	 * Set when a recipe had all of its inputs but could not be crafted because of {@link RebornRecipe#canCraft}.
+	 * Those conditions (multiblock, tank, heat...) do not raise events, so they are polled every second.
+	 */
+	private boolean waitingForCraftCondition = false;
+	/**
+	 * Whether there was enough energy for the current recipe last tick, to update the active state when it changes.
+	 */
+	private boolean hadEnergy = false;
+
+	private static int recipeScans = 0;
+	private static int recipeScansLastTick = 0;
+
 	@Nullable
 	public static ICrafterSoundHanlder soundHanlder = (firstRun, blockEntity) -> {
 	};
@@ -128,12 +142,20 @@ public class RecipeCrafter implements IUpgradeHandler {
 		if (blockEntity.getWorld() == null || blockEntity.getWorld().isClient) {
 			return;
 		}
-		ticksSinceLastChange++;
-		// Force a has chanced every second
-		if (ticksSinceLastChange == 20) {
-			setInvDirty(true);
-			ticksSinceLastChange = 0;
-			setIsActive();
+		if (waitingForCraftCondition) {
+			ticksSinceLastChange++;
+			if (ticksSinceLastChange >= 20) {
+				setInvDirty(true);
+				ticksSinceLastChange = 0;
+			}
+		}
+		// The energy only changes the active state, no need to look for another recipe.
+		if (currentRecipe != null) {
+			boolean hasEnergy = energy.getEnergy() >= currentRecipe.getPower();
+			if (hasEnergy != hadEnergy) {
+				hadEnergy = hasEnergy;
+				setIsActive();
+			}
 		}
 		// It will now look for new recipes.
 		if (currentRecipe == null && isInvDirty()) {
@@ -194,11 +216,16 @@ public class RecipeCrafter implements IUpgradeHandler {
 	 * Checks that we have all inputs, can fit output and update max tick time and current tick time
 	 */
 	public void updateCurrentRecipe() {
+		recipeScans++;
 		currentTickTime = 0;
-		for (RebornRecipe recipe : recipeType.getRecipes(blockEntity.getWorld())) {
+		waitingForCraftCondition = false;
+		for (RebornRecipe recipe : recipeType.getRecipeIndex(blockEntity.getWorld()).getCandidates(inventory, inputSlots)) {
 			// This checks to see if it has all of the inputs
 			if (!hasAllInputs(recipe)) continue;
-			if (!recipe.canCraft(blockEntity)) continue;
+			if (!recipe.canCraft(blockEntity)) {
+				waitingForCraftCondition = true;
+				continue;
+			}
 
 			// This checks to see if it can fit all of the outputs
 			boolean hasOutputSpace = true;
@@ -317,7 +344,8 @@ public class RecipeCrafter implements IUpgradeHandler {
 	}
 
 	public boolean canCraftAgain() {
-		for (RebornRecipe recipe : recipeType.getRecipes(blockEntity.getWorld())) {
+		recipeScans++;
+		for (RebornRecipe recipe : recipeType.getRecipeIndex(blockEntity.getWorld()).getCandidates(inventory, inputSlots)) {
 			if (recipe.canCraft(blockEntity) && hasAllInputs(recipe)) {
 				for (int i = 0; i < recipe.getOutputs().size(); i++) {
 					if (!canFitOutput(recipe.getOutputs().get(i), outputSlots[i])) {
@@ -359,21 +387,16 @@ public class RecipeCrafter implements IUpgradeHandler {
 	}
 
 	public boolean isStackValidInput(ItemStack stack) {
-		if (stack.isEmpty()) {
-			return false;
-		}
+		return recipeType.getRecipeIndex(blockEntity.getWorld()).isValidInput(stack);
+	}
 
-		//Test with a stack with the max stack size as some independents will check the stacksize. Bit of a hack but should work.
-		ItemStack largeStack = stack.copy();
-		largeStack.setCount(largeStack.getMaxCount());
-		for (RebornRecipe recipe : recipeType.getRecipes(blockEntity.getWorld())) {
-			for (RebornIngredient ingredient : recipe.getRebornIngredients()) {
-				if (ingredient.test(largeStack)) {
-					return true;
-				}
-			}
-		}
-		return false;
+	/**
+	 * Debug counter, used to check that idle machines do not look for recipes.
+	 *
+	 * @return the number of recipe scans done by all the crafters during the last server tick
+	 */
+	public static int getRecipeScansLastTick() {
+		return recipeScansLastTick;
 	}
 
 	@Override
@@ -411,4 +434,11 @@ public class RecipeCrafter implements IUpgradeHandler {
 	public void addSpeedMulti(double amount) {
 		parentUpgradeHandler.ifPresent(iUpgradeHandler -> iUpgradeHandler.addSpeedMulti(amount));
 	}
+
+	static {
+		ServerTickEvents.END_SERVER_TICK.register(server -> {
+			recipeScansLastTick = recipeScans;
+			recipeScans = 0;
+		});
+	}
 }
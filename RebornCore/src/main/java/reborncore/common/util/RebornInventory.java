@@ -82,6 +82,17 @@ public class RebornInventory<T extends MachineBaseBlockEntity> extends Inventory
 		return stack;
 	}
 
+	@Override
+	public ItemStack removeStack(int i) {
+		ItemStack stack = super.removeStack(i);
+
+		if (!stack.isEmpty()) {
+			setHashChanged();
+		}
+
+		return stack;
+	}
+
 	@Override
 	public int getMaxCountPerStack() {
 		return stackLimit;
@@ -152,6 +163,8 @@ public class RebornInventory<T extends MachineBaseBlockEntity> extends Inventory
 	@Override
 	public void markDirty() {
 		super.markDirty();
+		// Slots and transfer storages may modify stacks in place and only call markDirty() afterwards.
+		hasChanged = true;
 		blockEntity.markDirty();
 	}
 
@@ -0,0 +1,99 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+//file:noinspection GrMethodMayBeStatic
+package techreborn.test.recipe
+
+import com.google.gson.JsonObject
+import io.netty.buffer.Unpooled
+import net.minecraft.item.ItemStack
+import net.minecraft.network.PacketByteBuf
+import net.minecraft.test.GameTest
+import net.minecraft.test.GameTestException
+import reborncore.common.crafting.RebornRecipe
+import reborncore.common.crafting.RebornRecipeType
+import reborncore.common.util.serialization.SerializationUtil
+import techreborn.TechReborn
+import techreborn.test.TRGameTest
+import techreborn.test.TRTestContext
+
+class RecipeSyncTest extends TRGameTest {
+    @GameTest(structureName = "fabric-gametest-api-v1:empty", tickLimit = 20)
+    def testBinaryRecipeSync(TRTestContext context) {
+        /**
+         * Benchmark syncing every reborn recipe with the old json strings against the binary codec,
+         * and check that the binary codec round trips the recipes
+         */
+        List<RebornRecipe> recipes = context.world.recipeManager.values().findAll { it.serializer instanceof RebornRecipeType }
+
+        def jsonBuf = new PacketByteBuf(Unpooled.buffer())
+        long jsonStart = System.nanoTime()
+        recipes.each { recipe ->
+            RebornRecipeType type = recipe.serializer
+            jsonBuf.writeString(SerializationUtil.GSON_FLAT.toJson(type.toJson(recipe)), Integer.MAX_VALUE)
+        }
+        recipes.each { recipe ->
+            RebornRecipeType type = recipe.serializer
+            type.read(recipe.id, SerializationUtil.GSON_FLAT.fromJson(jsonBuf.readString(Integer.MAX_VALUE), JsonObject))
+        }
+        long jsonTime = System.nanoTime() - jsonStart
+
+        def binaryBuf = new PacketByteBuf(Unpooled.buffer())
+        long binaryStart = System.nanoTime()
+        recipes.each { recipe ->
+            RebornRecipeType type = recipe.serializer
+            type.write(binaryBuf, recipe)
+        }
+        List<RebornRecipe> decoded = recipes.collect { recipe ->
+            RebornRecipeType type = recipe.serializer
+            type.read(recipe.id, binaryBuf)
+        }
+        long binaryTime = System.nanoTime() - binaryStart
+
+        TechReborn.LOGGER.info("Synced {} recipes: json {} bytes in {}ms, binary {} bytes in {}ms",
+                recipes.size(), jsonBuf.writerIndex(), jsonTime / 1_000_000, binaryBuf.writerIndex(), binaryTime / 1_000_000)
+
+        if (binaryBuf.isReadable()) {
+            throw new GameTestException("Binary recipe sync left ${binaryBuf.readableBytes()} unread bytes")
+        }
+
+        recipes.eachWithIndex { recipe, i ->
+            def read = decoded[i]
+
+            if (read.power != recipe.power || read.time != recipe.time || read.rebornIngredients.size() != recipe.rebornIngredients.size()) {
+                throw new GameTestException("Recipe ${recipe.id} did not round trip")
+            }
+
+            if (read.outputs.size() != recipe.outputs.size() || [read.outputs, recipe.outputs].transpose().any { !ItemStack.areEqual(it[0], it[1]) }) {
+                throw new GameTestException("Recipe ${recipe.id} outputs did not round trip")
+            }
+        }
+
+        if (binaryBuf.writerIndex() >= jsonBuf.writerIndex()) {
+            throw new GameTestException("Binary recipe sync is not smaller than json")
+        }
+
+        context.complete()
+    }
+}
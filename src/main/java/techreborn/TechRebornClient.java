@@ -55,6 +55,8 @@ import reborncore.common.powerSystem.RcEnergyItem;
 import reborncore.common.util.ItemUtils;
 import reborncore.mixin.client.AccessorModelPredicateProviderRegistry;
 import team.reborn.energy.api.base.SimpleBatteryItem;
+import techreborn.blocks.cable.CableBlock;
+import techreborn.client.render.CableCoverBakedModel;
 import techreborn.client.render.DynamicBucketBakedModel;
 import techreborn.client.render.DynamicCellBakedModel;
 import techreborn.client.render.entitys.CableCoverRenderer;
@@ -117,6 +119,30 @@ public class TechRebornClient implements ClientModInitializer {
 
 					};
 				}
+				if (modelIdentifier.getVariant().contains("covered=true") && Registry.BLOCK.get(new Identifier(modelIdentifier.getNamespace(), modelIdentifier.getPath())) instanceof CableBlock) {
+					if (!RendererAccess.INSTANCE.hasRenderer()) {
+						// Covers are drawn by CableCoverRenderer instead
+						return null;
+					}
+
+					return new UnbakedModel() {
+						@Override
+						public Collection<Identifier> getModelDependencies() {
+							return Collections.emptyList();
+						}
+
+						@Override
+						public Collection<SpriteIdentifier> getTextureDependencies(Function<Identifier, UnbakedModel> unbakedModelGetter, Set<Pair<String, String>> unresolvedTextureReferences) {
+							return Collections.emptyList();
+						}
+
+						@Override
+						public BakedModel bake(ModelLoader loader, Function<SpriteIdentifier, Sprite> textureGetter, ModelBakeSettings rotationContainer, Identifier modelId) {
+							return new CableCoverBakedModel();
+						}
+
+					};
+				}
 				Fluid fluid = Registry.FLUID.get(new Identifier(TechReborn.MOD_ID, modelIdentifier.getPath().split("_bucket")[0]));
 				if (modelIdentifier.getPath().endsWith("_bucket") && fluid != Fluids.EMPTY) {
 					if (!RendererAccess.INSTANCE.hasRenderer()) {
@@ -177,7 +203,9 @@ public class TechRebornClient implements ClientModInitializer {
 		BlockEntityRendererRegistry.INSTANCE.register(TRBlockEntities.IMPLOSION_COMPRESSOR, MultiblockRenderer::new);
 		BlockEntityRendererRegistry.INSTANCE.register(TRBlockEntities.GREENHOUSE_CONTROLLER, MultiblockRenderer::new);
 		BlockEntityRendererRegistry.INSTANCE.register(TRBlockEntities.STORAGE_UNIT, StorageUnitRenderer::new);
-		BlockEntityRendererRegistry.INSTANCE.register(TRBlockEntities.CABLE, CableCoverRenderer::new);
+		if (!RendererAccess.INSTANCE.hasRenderer()) {
+			BlockEntityRendererRegistry.INSTANCE.register(TRBlockEntities.CABLE, CableCoverRenderer::new);
+		}
 		BlockEntityRendererRegistry.INSTANCE.register(TRBlockEntities.WIND_MILL, TurbineRenderer::new);
 
 		registerPredicateProvider(
@@ -26,38 +26,58 @@ package techreborn.api.generator;
 
 import com.google.common.collect.Sets;
 import net.minecraft.fluid.Fluid;
-import reborncore.common.fluid.FluidUtils;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public class FluidGeneratorRecipeList {
 	private HashSet<FluidGeneratorRecipe> recipes;
+	// Fluids are compared by identity, see FluidUtils.fluidEquals
+	private final Map<Fluid, FluidGeneratorRecipe> recipesByFluid = new IdentityHashMap<>();
 
 	public FluidGeneratorRecipeList(FluidGeneratorRecipe... recipes) {
-		this.recipes = Sets.newHashSet(recipes);
+		setRecipes(Sets.newHashSet(recipes));
 	}
 
 	public boolean addRecipe(FluidGeneratorRecipe fluidGeneratorRecipe) {
-		if (!this.getRecipeForFluid(fluidGeneratorRecipe.fluid()).isPresent())
+		if (recipesByFluid.putIfAbsent(fluidGeneratorRecipe.fluid(), fluidGeneratorRecipe) == null)
 			return this.getRecipes().add(fluidGeneratorRecipe);
 		return false;
 	}
 
 	public boolean removeRecipe(FluidGeneratorRecipe fluidGeneratorRecipe) {
-		return this.getRecipes().remove(fluidGeneratorRecipe);
+		if (this.getRecipes().remove(fluidGeneratorRecipe)) {
+			recipesByFluid.remove(fluidGeneratorRecipe.fluid());
+			return true;
+		}
+		return false;
 	}
 
 	public Optional<FluidGeneratorRecipe> getRecipeForFluid(Fluid fluid) {
-		return this.recipes.stream().filter(recipe -> FluidUtils.fluidEquals(recipe.fluid(), fluid)).findAny();
+		return Optional.ofNullable(getRecipe(fluid));
+	}
+
+	@Nullable
+	public FluidGeneratorRecipe getRecipe(Fluid fluid) {
+		return recipesByFluid.get(fluid);
 	}
 
+	/**
+	 * Use {@link #addRecipe} and {@link #removeRecipe} to change the recipes, the fluid lookup is not updated otherwise.
+	 */
 	public HashSet<FluidGeneratorRecipe> getRecipes() {
 		return recipes;
 	}
 
 	public void setRecipes(HashSet<FluidGeneratorRecipe> recipes) {
 		this.recipes = recipes;
+		recipesByFluid.clear();
+		for (FluidGeneratorRecipe recipe : recipes) {
+			recipesByFluid.putIfAbsent(recipe.fluid(), recipe);
+		}
 	}
 
 	@Override
@@ -26,6 +26,7 @@ package techreborn.api.recipe.recipes.serde;
 
 import com.google.gson.JsonObject;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
 import reborncore.common.crafting.RebornRecipeType;
@@ -48,4 +49,17 @@ public class FusionReactorRecipeSerde extends RebornRecipeSerde<FusionReactorRec
 		jsonObject.addProperty("start-power", recipe.getStartEnergy());
 		jsonObject.addProperty("min-size", recipe.getMinSize());
 	}
+
+	@Override
+	protected FusionReactorRecipe fromPacket(PacketByteBuf buf, RebornRecipeType<FusionReactorRecipe> type, Identifier name, List<RebornIngredient> ingredients, List<ItemStack> outputs, int power, int time) {
+		final int startE = buf.readVarInt();
+		final int minSize = buf.readVarInt();
+		return new FusionReactorRecipe(type, name, ingredients, outputs, power, time, startE, minSize);
+	}
+
+	@Override
+	protected void writePacketData(FusionReactorRecipe recipe, PacketByteBuf buf) {
+		buf.writeVarInt(recipe.getStartEnergy());
+		buf.writeVarInt(recipe.getMinSize());
+	}
 }
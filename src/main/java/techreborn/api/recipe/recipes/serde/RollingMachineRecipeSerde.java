@@ -2,6 +2,7 @@ package techreborn.api.recipe.recipes.serde;
 
 import com.google.gson.JsonObject;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.recipe.RecipeSerializer;
 import net.minecraft.recipe.ShapedRecipe;
 import net.minecraft.util.Identifier;
@@ -46,4 +47,23 @@ public class RollingMachineRecipeSerde extends RebornRecipeSerde<RollingMachineR
 	@Override
 	protected void writeOutputs(RollingMachineRecipe recipe, JsonObject jsonObject) {
 	}
+
+	// The shaped recipe is synced as json by the default packet data, it holds both the inputs and outputs
+	@Override
+	protected List<RebornIngredient> readIngredients(PacketByteBuf buf) {
+		return Collections.emptyList();
+	}
+
+	@Override
+	protected List<ItemStack> readOutputs(PacketByteBuf buf) {
+		return Collections.emptyList();
+	}
+
+	@Override
+	protected void writeIngredients(RollingMachineRecipe recipe, PacketByteBuf buf) {
+	}
+
+	@Override
+	protected void writeOutputs(RollingMachineRecipe recipe, PacketByteBuf buf) {
+	}
 }
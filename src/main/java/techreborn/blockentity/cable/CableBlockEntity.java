@@ -25,6 +25,9 @@
 package techreborn.blockentity.cable;
 
 import net.fabricmc.fabric.api.lookup.v1.block.BlockApiCache;
+import net.fabricmc.fabric.api.rendering.data.v1.RenderAttachmentBlockEntity;
+import net.fabricmc.fabric.api.transfer.v1.storage.StoragePreconditions;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntity;
@@ -50,7 +53,6 @@ import reborncore.common.network.NetworkManager;
 import reborncore.common.powerSystem.PowerSystem;
 import reborncore.common.util.StringUtils;
 import team.reborn.energy.api.EnergyStorage;
-import team.reborn.energy.api.base.SimpleSidedEnergyContainer;
 import techreborn.blocks.cable.CableBlock;
 import techreborn.init.TRBlockEntities;
 import techreborn.init.TRContent;
@@ -58,30 +60,30 @@ import techreborn.init.TRContent;
 import java.util.ArrayList;
 import java.util.List;
 
+@SuppressWarnings("UnstableApiUsage")
 public class CableBlockEntity extends BlockEntity
-		implements BlockEntityTicker<CableBlockEntity>, IListInfoProvider, IToolDrop {
-	// Can't use SimpleEnergyStorage because the cable type is not available when the BE is constructed.
-	final SimpleSidedEnergyContainer energyContainer = new SimpleSidedEnergyContainer() {
-		@Override
-		public long getCapacity() {
-			return getCableType().transferRate * 4L;
-		}
-
-		@Override
-		public long getMaxInsert(Direction side) {
-			if (allowTransfer(side)) return getCableType().transferRate;
-			else return 0;
-		}
-
-		@Override
-		public long getMaxExtract(Direction side) {
-			if (allowTransfer(side)) return getCableType().transferRate;
-			else return 0;
-		}
-	};
+		implements BlockEntityTicker<CableBlockEntity>, IListInfoProvider, IToolDrop, RenderAttachmentBlockEntity {
+	/**
+	 * One storage per side, plus one for the null side. They all access the energy pooled in the network.
+	 */
+	private final EnergyStorage[] sideStorages = new EnergyStorage[7];
+	/**
+	 * Energy held by this cable while it is not part of a valid network.
+	 * The network only splits its energy back into its cables when it is invalidated.
+	 */
+	long energy = 0;
 	private TRContent.Cables cableType = null;
 	private BlockState cover = null;
-	long lastTick = 0;
+	// Client only, the cover the chunk mesh was last rebuilt for
+	private BlockState meshedCover = null;
+	/**
+	 * The network this cable belongs to, null until the cable first ticks.
+	 */
+	CableNetwork network = null;
+	/**
+	 * Index of this cable in its network, used to compute its share of the network energy.
+	 */
+	int networkIndex = 0;
 	// null means that it needs to be re-queried
 	List<CableTarget> targets = null;
 	/**
@@ -89,17 +91,16 @@ public class CableBlockEntity extends BlockEntity
 	 * This prevents double transfer rates, and back and forth between two cables.
 	 */
 	int blockedSides = 0;
-	/**
-	 * This is only used during the cable tick, whereas blockedOperations is used between ticks.
-	 */
-	boolean ioBlocked = false;
 
 	public CableBlockEntity(BlockPos pos, BlockState state) {
 		super(TRBlockEntities.CABLE, pos, state);
+		for (int i = 0; i < sideStorages.length; i++) {
+			sideStorages[i] = new CableSideStorage(i < 6 ? Direction.byId(i) : null);
+		}
 	}
 
 	public CableBlockEntity(BlockPos pos, BlockState state, TRContent.Cables type) {
-		super(TRBlockEntities.CABLE, pos, state);
+		this(pos, state);
 		this.cableType = type;
 	}
 
@@ -118,12 +119,22 @@ public class CableBlockEntity extends BlockEntity
 		return TRContent.Cables.COPPER;
 	}
 
-	private boolean allowTransfer(Direction side) {
-		return !ioBlocked && (blockedSides & (1 << side.ordinal())) == 0;
+	long getCapacity() {
+		return getCableType().transferRate * 4L;
+	}
+
+	/**
+	 * @return the network to transfer through from the given side, or null if the transfer is not allowed.
+	 */
+	@Nullable
+	private CableNetwork getTransferNetwork(@Nullable Direction side) {
+		if (network == null || !network.isValid() || network.ioBlocked) return null;
+		if (side != null && (blockedSides & (1 << side.ordinal())) != 0) return null;
+		return network;
 	}
 
 	public EnergyStorage getSideEnergyStorage(@Nullable Direction side) {
-		return energyContainer.getSideStorage(side);
+		return sideStorages[side == null ? 6 : side.ordinal()];
 	}
 
 	public BlockState getCover() {
@@ -135,21 +146,42 @@ public class CableBlockEntity extends BlockEntity
 		if (world != null && !world.isClient) {
 			NetworkManager.sendToTracking(ClientBoundPackets.createCustomDescriptionPacket(this), this);
 		}
+		rebuildCoverMesh();
+	}
+
+	// The cover is part of the chunk mesh, rebuild it when it differs from the meshed one. The painting tool
+	// also sets the cover on the client, so the description packet alone would not see a change.
+	private void rebuildCoverMesh() {
+		if (world != null && world.isClient && cover != meshedCover) {
+			meshedCover = cover;
+			world.updateListeners(pos, getCachedState(), getCachedState(), Block.NOTIFY_LISTENERS);
+		}
 	}
 
 	public long getEnergy() {
-		return energyContainer.amount;
+		if (network != null && network.isValid()) {
+			return network.getCableAmount(networkIndex);
+		}
+		return energy;
 	}
 
 	public void setEnergy(long energy) {
-		energyContainer.amount = energy;
+		if (network != null && network.isValid()) {
+			network.setAmount(network.amount + energy - network.getCableAmount(networkIndex));
+		} else {
+			this.energy = energy;
+		}
 	}
 
-	void appendTargets(List<OfferedEnergyStorage> targetStorages) {
+	/**
+	 * Re-query the adjacent storages if necessary.
+	 *
+	 * @return whether this cable has at least one non-cable target.
+	 */
+	boolean updateTargets() {
 		ServerWorld serverWorld = (ServerWorld) world;
-		if (serverWorld == null) { return; }
+		if (serverWorld == null) { return false; }
 
-		// Update our targets if necessary.
 		if (targets == null) {
 			BlockState newBlockState = getCachedState();
 
@@ -177,18 +209,29 @@ public class CableBlockEntity extends BlockEntity
 			}
 
 			serverWorld.setBlockState(getPos(), newBlockState);
+			blockedSides = 0;
 		}
 
+		return !targets.isEmpty();
+	}
+
+	void appendTargets(EnergyTransferDispatcher dispatcher) {
+		List<CableTarget> currentTargets = targets;
+		if (currentTargets == null) { return; }
+
 		// Fill the list.
-		for (CableTarget target : targets) {
+		for (int i = 0; i < currentTargets.size(); i++) {
+			CableTarget target = currentTargets.get(i);
 			EnergyStorage storage = target.find();
 
 			if (storage == null) {
 				// Schedule a rebuild next tick.
-				// This is just a reference change, the iterator remains valid.
 				targets = null;
+				if (network != null) {
+					network.markEndpointsDirty();
+				}
 			} else {
-				targetStorages.add(new OfferedEnergyStorage(this, target.directionTo, storage));
+				dispatcher.add(this, target.directionTo, storage);
 			}
 		}
 
@@ -213,26 +256,40 @@ public class CableBlockEntity extends BlockEntity
 	public void readNbt(NbtCompound compound) {
 		super.readNbt(compound);
 		if (compound.contains("energy")) {
-			energyContainer.amount = compound.getLong("energy");
+			energy = compound.getLong("energy");
 		}
 		if (compound.contains("cover")) {
 			cover = NbtHelper.toBlockState(compound.getCompound("cover"));
 		} else {
 			cover = null;
 		}
+		rebuildCoverMesh();
 	}
 
 	@Override
 	public void writeNbt(NbtCompound compound) {
 		super.writeNbt(compound);
-		compound.putLong("energy", energyContainer.amount);
+		compound.putLong("energy", getEnergy());
 		if (cover != null) {
 			compound.put("cover", NbtHelper.fromBlockState(cover));
 		}
 	}
 
+	@Override
+	public void markRemoved() {
+		super.markRemoved();
+		// Removed or unloaded, either way the network has to be rebuilt without this cable.
+		if (network != null) {
+			network.invalidate();
+			network = null;
+		}
+	}
+
 	public void neighborUpdate() {
 		targets = null;
+		if (network != null) {
+			network.markEndpointsDirty();
+		}
 	}
 
 	// BlockEntityTicker
@@ -278,6 +335,50 @@ public class CableBlockEntity extends BlockEntity
 		return new ItemStack(getCableType().block);
 	}
 
+	// RenderAttachmentBlockEntity
+	@Nullable
+	@Override
+	public Object getRenderAttachmentData() {
+		return cover;
+	}
+
+	private class CableSideStorage implements EnergyStorage {
+		@Nullable
+		private final Direction side;
+
+		private CableSideStorage(@Nullable Direction side) {
+			this.side = side;
+		}
+
+		@Override
+		public long insert(long maxAmount, TransactionContext transaction) {
+			StoragePreconditions.notNegative(maxAmount);
+			CableNetwork transferNetwork = getTransferNetwork(side);
+			if (transferNetwork == null) return 0;
+
+			return transferNetwork.insert(Math.min(maxAmount, getCableType().transferRate), transaction);
+		}
+
+		@Override
+		public long extract(long maxAmount, TransactionContext transaction) {
+			StoragePreconditions.notNegative(maxAmount);
+			CableNetwork transferNetwork = getTransferNetwork(side);
+			if (transferNetwork == null) return 0;
+
+			return transferNetwork.extract(Math.min(maxAmount, getCableType().transferRate), transaction);
+		}
+
+		@Override
+		public long getAmount() {
+			return getEnergy();
+		}
+
+		@Override
+		public long getCapacity() {
+			return CableBlockEntity.this.getCapacity();
+		}
+	}
+
 	private record CableTarget(Direction directionTo, BlockApiCache<EnergyStorage, Direction> cache) {
 
 		@Nullable
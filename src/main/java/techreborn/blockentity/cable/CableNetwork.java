@@ -0,0 +1,251 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package techreborn.blockentity.cable;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+import net.fabricmc.fabric.api.transfer.v1.transaction.base.SnapshotParticipant;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.Direction;
+import techreborn.init.TRContent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A group of connected cables of the same type, ticked as a single unit.
+ * The network is built once and stays valid until one of its cables is removed or a new cable connects to it.
+ * The energy of all the cables is pooled in the network.
+ */
+@SuppressWarnings("UnstableApiUsage")
+class CableNetwork extends SnapshotParticipant<Long> {
+	private static final Deque<CableBlockEntity> bfsQueue = new ArrayDeque<>();
+	private static final LongSet visitedChunks = new LongOpenHashSet();
+
+	final TRContent.Cables cableType;
+	final List<CableBlockEntity> cables = new ArrayList<>();
+	/**
+	 * One cable position per chunk spanned by the network, used to mark the chunks for saving.
+	 */
+	private final List<BlockPos> chunkAnchors = new ArrayList<>();
+	long amount = 0;
+	long capacity = 0;
+	/**
+	 * Block any cable I/O while the network amount is accessed directly.
+	 * Some things might try to access cables, for example a p2p tunnel pointing back at a cable.
+	 * If the cables and the network go out of sync, we risk duping or voiding energy.
+	 */
+	boolean ioBlocked = false;
+	/**
+	 * Whether the amount changed since the chunks were last marked for saving.
+	 */
+	private boolean amountChanged = false;
+	/**
+	 * Cables that have at least one adjacent non-cable energy storage.
+	 */
+	private final List<CableBlockEntity> endpoints = new ArrayList<>();
+	private boolean endpointsDirty = true;
+	private boolean valid = true;
+	long lastTick = -1;
+
+	private CableNetwork(TRContent.Cables cableType) {
+		this.cableType = cableType;
+	}
+
+	boolean isValid() {
+		return valid;
+	}
+
+	/**
+	 * Marks the network as outdated, every cable will rebuild its network the next time it ticks.
+	 * The pooled energy is split back into the cables so that the next networks can gather it again.
+	 */
+	void invalidate() {
+		if (!valid) return;
+		valid = false;
+
+		for (int i = 0; i < cables.size(); i++) {
+			cables.get(i).energy = getCableAmount(i);
+		}
+	}
+
+	/**
+	 * @return the share of the network energy that belongs to the cable at the given index.
+	 */
+	long getCableAmount(int index) {
+		int cableCount = cables.size();
+		return amount / cableCount + (index < amount % cableCount ? 1 : 0);
+	}
+
+	void setAmount(long amount) {
+		if (this.amount != amount) {
+			this.amount = amount;
+			amountChanged = true;
+		}
+	}
+
+	/**
+	 * Make sure the chunks get saved with the new energy, without marking every single cable dirty.
+	 */
+	void markChunksDirty(ServerWorld world) {
+		if (!amountChanged) return;
+		amountChanged = false;
+
+		for (BlockPos pos : chunkAnchors) {
+			world.markDirty(pos);
+		}
+	}
+
+	long insert(long maxAmount, TransactionContext transaction) {
+		long inserted = Math.min(maxAmount, capacity - amount);
+
+		if (inserted > 0) {
+			updateSnapshots(transaction);
+			amount += inserted;
+		}
+
+		return inserted;
+	}
+
+	long extract(long maxAmount, TransactionContext transaction) {
+		long extracted = Math.min(maxAmount, amount);
+
+		if (extracted > 0) {
+			updateSnapshots(transaction);
+			amount -= extracted;
+		}
+
+		return extracted;
+	}
+
+	@Override
+	protected Long createSnapshot() {
+		return amount;
+	}
+
+	@Override
+	protected void readSnapshot(Long snapshot) {
+		amount = snapshot;
+	}
+
+	@Override
+	protected void onFinalCommit() {
+		amountChanged = true;
+	}
+
+	/**
+	 * Requests a new scan of the cable targets, for example after a neighbor update.
+	 */
+	void markEndpointsDirty() {
+		endpointsDirty = true;
+	}
+
+	void appendTargets(EnergyTransferDispatcher dispatcher) {
+		if (endpointsDirty) {
+			endpointsDirty = false;
+			endpoints.clear();
+			for (CableBlockEntity cable : cables) {
+				if (cable.updateTargets()) {
+					endpoints.add(cable);
+				}
+			}
+		}
+
+		for (int i = 0; i < endpoints.size(); i++) {
+			endpoints.get(i).appendTargets(dispatcher);
+		}
+	}
+
+	private static boolean canJoin(ServerWorld world, BlockPos pos) {
+		// Make sure we ignore cables in non-ticking chunks.
+		return world.isChunkLoaded(pos);
+	}
+
+	/**
+	 * Perform a BFS to gather all the cables connected to the starting cable into a new network.
+	 */
+	static CableNetwork build(CableBlockEntity start, long tickCounter) {
+		ServerWorld world = (ServerWorld) start.getWorld();
+		CableNetwork network = new CableNetwork(start.getCableType());
+
+		try {
+			network.add(start, tickCounter);
+			bfsQueue.add(start);
+
+			while (!bfsQueue.isEmpty()) {
+				CableBlockEntity current = bfsQueue.removeFirst();
+
+				for (Direction direction : Direction.values()) {
+					BlockPos adjPos = current.getPos().offset(direction);
+					if (!canJoin(world, adjPos)) continue;
+
+					if (world.getBlockEntity(adjPos) instanceof CableBlockEntity adjCable && network.cableType == adjCable.getCableType()) {
+						if (adjCable.network != network) {
+							network.add(adjCable, tickCounter);
+							bfsQueue.add(adjCable);
+						}
+					}
+				}
+			}
+		} finally {
+			bfsQueue.clear();
+			visitedChunks.clear();
+		}
+
+		// Just in case.
+		if (network.amount > network.capacity) {
+			network.amount = network.capacity;
+		}
+
+		return network;
+	}
+
+	private void add(CableBlockEntity cable, long tickCounter) {
+		CableNetwork previous = cable.network;
+		if (previous != null && previous != this) {
+			// Don't tick the cables twice if the previous network already ticked this tick.
+			if (previous.valid && previous.lastTick == tickCounter) {
+				lastTick = tickCounter;
+			}
+			previous.invalidate();
+		}
+		cable.network = this;
+		cable.networkIndex = cables.size();
+		cables.add(cable);
+
+		amount += cable.energy;
+		capacity += cable.getCapacity();
+
+		if (visitedChunks.add(ChunkPos.toLong(cable.getPos().getX() >> 4, cable.getPos().getZ() >> 4))) {
+			chunkAnchors.add(cable.getPos());
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package techreborn.blockentity.cable;
+
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.minecraft.util.math.Direction;
+import team.reborn.energy.api.EnergyStorage;
+import techreborn.init.TRContent;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * EnergyStorages adjacent to a cable network, with the logic to split a transfer across them.
+ * Backed by parallel arrays that are reused from one tick to the next, so that dispatching does not allocate.
+ */
+@SuppressWarnings("UnstableApiUsage")
+class EnergyTransferDispatcher {
+	private CableBlockEntity[] sourceCables = new CableBlockEntity[16];
+	private Direction[] directions = new Direction[16];
+	private EnergyStorage[] storages = new EnergyStorage[16];
+	private long[] simulationResults = new long[16];
+	private int[] order = new int[16];
+	private int[] sortBuffer = new int[16];
+	private int size = 0;
+
+	void add(CableBlockEntity sourceCable, Direction direction, EnergyStorage storage) {
+		if (size == storages.length) {
+			int newLength = size * 2;
+			sourceCables = Arrays.copyOf(sourceCables, newLength);
+			directions = Arrays.copyOf(directions, newLength);
+			storages = Arrays.copyOf(storages, newLength);
+			simulationResults = new long[newLength];
+			order = new int[newLength];
+			sortBuffer = new int[newLength];
+		}
+
+		sourceCables[size] = sourceCable;
+		directions[size] = direction;
+		storages[size] = storage;
+		size++;
+	}
+
+	void clear() {
+		// Don't keep block entities and storages alive.
+		Arrays.fill(sourceCables, 0, size, null);
+		Arrays.fill(storages, 0, size, null);
+		size = 0;
+	}
+
+	/**
+	 * Perform a transfer operation across all the targets.
+	 */
+	long dispatch(TRContent.Cables cableType, TransferOperation operation, long maxAmount) {
+		if (size == 0) return 0;
+
+		try (Transaction transaction = Transaction.openOuter()) {
+			// Simulate the transfer for each target.
+			for (int i = 0; i < size; ++i) {
+				try (Transaction simulation = transaction.openNested()) {
+					simulationResults[i] = operation.transfer(storages[i], Long.MAX_VALUE, simulation);
+				}
+			}
+
+			// Start at a random target for better average transfer.
+			int offset = ThreadLocalRandom.current().nextInt(size);
+			for (int i = 0; i < size; ++i) {
+				order[i] = i + offset < size ? i + offset : i + offset - size;
+			}
+			// Sort by lowest simulation target.
+			sortOrder();
+
+			// Actually perform the transfer.
+			long transferredAmount = 0;
+			for (int i = 0; i < size; ++i) {
+				int target = order[i];
+				int remainingTargets = size - i;
+				long remainingAmount = maxAmount - transferredAmount;
+				// Limit max amount to the cable transfer rate.
+				long targetMaxAmount = Math.min(remainingAmount / remainingTargets, cableType.transferRate);
+
+				long localTransferred = operation.transfer(storages[target], targetMaxAmount, transaction);
+				if (localTransferred > 0) {
+					transferredAmount += localTransferred;
+					// Block duplicate operations, and insertions from this side.
+					sourceCables[target].blockedSides |= 1 << directions[target].ordinal();
+				}
+			}
+			transaction.commit();
+			return transferredAmount;
+		}
+	}
+
+	/**
+	 * Stable bottom-up merge sort of the target indices by simulation result, so that the random rotation is kept between equal targets.
+	 */
+	private void sortOrder() {
+		int[] source = order;
+		int[] destination = sortBuffer;
+
+		for (int width = 1; width < size; width *= 2) {
+			for (int low = 0; low < size; low += 2 * width) {
+				int middle = Math.min(low + width, size);
+				int high = Math.min(low + 2 * width, size);
+				int left = low;
+				int right = middle;
+				int index = low;
+
+				while (left < middle && right < high) {
+					if (simulationResults[source[right]] < simulationResults[source[left]]) {
+						destination[index++] = source[right++];
+					} else {
+						destination[index++] = source[left++];
+					}
+				}
+				while (left < middle) {
+					destination[index++] = source[left++];
+				}
+				while (right < high) {
+					destination[index++] = source[right++];
+				}
+			}
+
+			int[] swap = source;
+			source = destination;
+			destination = swap;
+		}
+
+		if (source != order) {
+			System.arraycopy(source, 0, order, 0, size);
+		}
+	}
+
+	interface TransferOperation {
+		long transfer(EnergyStorage storage, long maxAmount, Transaction transaction);
+	}
+}
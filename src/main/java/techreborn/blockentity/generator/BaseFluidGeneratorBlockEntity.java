@@ -53,6 +53,9 @@ public abstract class BaseFluidGeneratorBlockEntity extends PowerAcceptorBlockEn
 	private final int euTick;
 	private FluidGeneratorRecipe currentRecipe;
 	private int ticksSinceLastChange;
+	// Set when a cell in the input slot could not be fully handled, retried once the tank amount changes
+	private boolean inputPending = false;
+	private long inputPendingTankAmount;
 	public final Tank tank;
 	public final RebornInventory<?> inventory;
 	protected long lastOutput = 0;
@@ -82,25 +85,30 @@ public abstract class BaseFluidGeneratorBlockEntity extends PowerAcceptorBlockEn
 			return;
 		}
 
+		// Only used to animate the progress bar
 		ticksSinceLastChange++;
-
-		// Check cells input slot 2 time per second
 		if (ticksSinceLastChange >= 10) {
+			ticksSinceLastChange = 0;
+		}
+
+		// Handle cells when the slots changed, or when a waiting cell may now fit in the tank
+		if (inventory.hasChanged() || (inputPending && tank.getAmount() != inputPendingTankAmount)) {
+			inventory.resetHasChanged();
 			ItemStack inputStack = inventory.getStack(0);
 			if (!inputStack.isEmpty()) {
-				if (FluidUtils.containsMatchingFluid(inputStack, f -> getRecipes().getRecipeForFluid(f).isPresent())) {
+				if (FluidUtils.containsMatchingFluid(inputStack, f -> getRecipes().getRecipe(f) != null)) {
 					FluidUtils.drainContainers(tank, inventory, 0, 1);
 				} else {
 					FluidUtils.fillContainers(tank, inventory, 0, 1);
 				}
 			}
-
-			ticksSinceLastChange = 0;
+			inputPending = !inventory.getStack(0).isEmpty();
+			inputPendingTankAmount = tank.getAmount();
 		}
 
 		if (!tank.getFluidAmount().isEmpty()) {
 			if (currentRecipe == null || !FluidUtils.fluidEquals(currentRecipe.fluid(), tank.getFluid()))
-				currentRecipe = getRecipes().getRecipeForFluid(tank.getFluid()).orElse(null);
+				currentRecipe = getRecipes().getRecipe(tank.getFluid());
 
 			if (currentRecipe != null) {
 				final int euPerBucket = currentRecipe.getEnergyPerBucket();
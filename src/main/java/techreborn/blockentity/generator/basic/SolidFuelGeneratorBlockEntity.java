@@ -208,7 +208,7 @@ public class SolidFuelGeneratorBlockEntity extends PowerAcceptorBlockEntity impl
 	public BuiltScreenHandler createScreenHandler(int syncID, final PlayerEntity player) {
 		return new ScreenHandlerBuilder("generator").player(player.getInventory()).inventory().hotbar().addInventory()
 				.blockEntity(this).fuelSlot(0, 80, 54).energySlot(1, 8, 72).syncEnergyValue()
-				.sync(this::getBurnTime, this::setBurnTime)
-				.sync(this::getTotalBurnTime, this::setTotalBurnTime).addInventory().create(this, syncID);
+				.syncInt(this::getBurnTime, this::setBurnTime)
+				.syncInt(this::getTotalBurnTime, this::setTotalBurnTime).addInventory().create(this, syncID);
 	}
 }
@@ -112,6 +112,7 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 	public void changeSize(int sizeDelta) {
 		int newSize = size + sizeDelta;
 		this.size = Math.max(6, Math.min(TechRebornConfig.fusionControlComputerMaxCoilSize, newSize));
+		invalidateMultiblock();
 	}
 
 	/**
@@ -368,6 +369,7 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 		}
 		//Done here to force the smaller size, will be useful if people lag out on a large one.
 		this.size = Math.min(size, TechRebornConfig.fusionControlComputerMaxCoilSize);
+		invalidateMultiblock();
 	}
 
 	@Override
@@ -393,6 +395,11 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 		Torus.generate(BlockPos.ORIGIN, size).forEach(pos -> writer.add(pos.getX(), pos.getY(), pos.getZ(), coil));
 	}
 
+	@Override
+	public int getMultiblockVariant() {
+		return size;
+	}
+
 	@Override
 	public boolean canBeUpgraded() {
 		return false;
@@ -403,7 +410,7 @@ public class FusionControlComputerBlockEntity extends GenericMachineBlockEntity
 	public BuiltScreenHandler createScreenHandler(int syncID, final PlayerEntity player) {
 		return new ScreenHandlerBuilder("fusionreactor").player(player.getInventory()).inventory().hotbar()
 				.addInventory().blockEntity(this).slot(0, 34, 47).slot(1, 126, 47).outputSlot(2, 80, 47).syncEnergyValue()
-				.sync(this::getCraftingTickTime, this::setCraftingTickTime)
+				.syncInt(this::getCraftingTickTime, this::setCraftingTickTime)
 				.sync(this::getSize, this::setSize)
 				.sync(this::getState, this::setState)
 				.sync(this::getNeededPower, this::setNeededPower)
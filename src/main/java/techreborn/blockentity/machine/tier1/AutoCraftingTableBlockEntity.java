@@ -39,7 +39,6 @@ import net.minecraft.util.collection.DefaultedList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
-import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.Nullable;
 import reborncore.api.IToolDrop;
 import reborncore.api.blockentity.InventoryProvider;
@@ -56,11 +55,7 @@ import techreborn.init.ModSounds;
 import techreborn.init.TRBlockEntities;
 import techreborn.init.TRContent;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Created by modmuss50 on 20/06/2017.
@@ -88,6 +83,15 @@ public class AutoCraftingTableBlockEntity extends PowerAcceptorBlockEntity
 
 	public boolean locked = false;
 
+	// Resolved when the inventory changes, see onInventoryChanged
+	@Nullable
+	private CraftingRecipe currentRecipe = null;
+	private boolean canMakeRecipe = false;
+	// Number of balanceRecipe calls left before every slot was checked without moving anything
+	private int balanceChecksLeft = 0;
+	// Reused by balanceRecipe
+	private final int[] balanceSlots = new int[CRAFTING_AREA];
+
 	public AutoCraftingTableBlockEntity(BlockPos pos, BlockState state) {
 		super(TRBlockEntities.AUTO_CRAFTING_TABLE, pos, state);
 	}
@@ -100,10 +104,7 @@ public class AutoCraftingTableBlockEntity extends PowerAcceptorBlockEntity
 
 		if (lastRecipe != null && lastRecipe.matches(crafting, world)) return lastRecipe;
 
-		Item[] currentInvLayout = getCraftingLayout(crafting);
-		if(Arrays.equals(layoutInv, currentInvLayout)) return null;
-
-		layoutInv = currentInvLayout;
+		if (!updateCraftingLayout(crafting)) return null;
 
 		Optional<CraftingRecipe> testRecipe = world.getRecipeManager().getFirstMatch(RecipeType.CRAFTING, crafting, world);
 		if (testRecipe.isPresent()) {
@@ -114,12 +115,24 @@ public class AutoCraftingTableBlockEntity extends PowerAcceptorBlockEntity
 		return null;
 	}
 
-	private Item[] getCraftingLayout(CraftingInventory craftingInventory){
-		Item[] layout = new Item[CRAFTING_AREA];
+	// Returns true if the items in the crafting grid changed since the last failed recipe lookup
+	private boolean updateCraftingLayout(CraftingInventory craftingInventory){
+		boolean changed = false;
 		for (int i = 0; i < CRAFTING_AREA; i++) {
-			layout[i] = craftingInventory.getStack(i).getItem();
+			Item item = craftingInventory.getStack(i).getItem();
+			if (layoutInv[i] != item) {
+				layoutInv[i] = item;
+				changed = true;
+			}
 		}
-		return layout;
+		return changed;
+	}
+
+	private void onInventoryChanged() {
+		currentRecipe = getCurrentRecipe();
+		canMakeRecipe = canMake(currentRecipe);
+		// Every slot has to be checked again, balanceSlot goes through the crafting slots and the output slot
+		balanceChecksLeft = CRAFTING_AREA + 1;
 	}
 
 	private CraftingInventory getCraftingInventory() {
@@ -227,6 +240,8 @@ public class AutoCraftingTableBlockEntity extends PowerAcceptorBlockEntity
 		} else {
 			output.increment(recipe.getOutput().getCount());
 		}
+		// The stacks above are changed in place
+		inventory.setHashChanged();
 		return true;
 	}
 
@@ -253,7 +268,6 @@ public class AutoCraftingTableBlockEntity extends PowerAcceptorBlockEntity
 		if (world == null || world.isClient) return Optional.empty();
 		if (craftCache.isEmpty()) return Optional.empty();
 
-		CraftingRecipe currentRecipe = getCurrentRecipe();
 		if (currentRecipe == null) {
 			return Optional.empty();
 		}
@@ -267,88 +281,79 @@ public class AutoCraftingTableBlockEntity extends PowerAcceptorBlockEntity
 		if (sourceStack.isEmpty()) {
 			return Optional.empty();
 		}
-		List<Integer> possibleSlots = new ArrayList<>();
-		for (int s = 0; s < currentRecipe.getIngredients().size(); s++) {
+		int slots = 0;
+		int totalItems = 0;
+		DefaultedList<Ingredient> ingredients = currentRecipe.getIngredients();
+		for (int s = 0; s < ingredients.size(); s++) {
+			Ingredient ingredient = ingredients.get(s);
+			if (ingredient == Ingredient.EMPTY || !ingredient.test(sourceStack)) {
+				continue;
+			}
 			for (int i = 0; i < CRAFTING_AREA; i++) {
-				if (possibleSlots.contains(i)) {
+				if (containsSlot(slots, i)) {
 					continue;
 				}
 				ItemStack stackInSlot = inventory.getStack(i);
-				Ingredient ingredient = currentRecipe.getIngredients().get(s);
-				if (ingredient != Ingredient.EMPTY && ingredient.test(sourceStack)) {
-					if (stackInSlot.getItem() == sourceStack.getItem()) {
-						possibleSlots.add(i);
-						break;
-					}
+				if (stackInSlot.getItem() == sourceStack.getItem()) {
+					balanceSlots[slots++] = i;
+					totalItems += stackInSlot.getCount();
+					break;
 				}
 			}
-
+		}
+		if (slots == 0) {
+			return Optional.empty();
 		}
 
-		if (!possibleSlots.isEmpty()) {
-			int totalItems = possibleSlots.stream()
-					.mapToInt(value -> inventory.getStack(value).getCount()).sum();
-			int slots = possibleSlots.size();
-
-			//This makes an array of ints with the best possible slot distribution
-			int[] split = new int[slots];
-			int remainder = totalItems % slots;
-			Arrays.fill(split, totalItems / slots);
-			while (remainder > 0) {
-				for (int i = 0; i < split.length; i++) {
-					if (remainder > 0) {
-						split[i] += 1;
-						remainder--;
-					}
-				}
-			}
-
-			List<Integer> slotDistribution = possibleSlots.stream()
-					.mapToInt(value -> inventory.getStack(value).getCount())
-					.boxed().collect(Collectors.toList());
-
-			boolean needsBalance = false;
-			for (int required : split) {
-				if (slotDistribution.contains(required)) {
-					//We need to remove the int, not at the int, this seems to work around that
-					slotDistribution.remove(Integer.valueOf(required));
-				} else {
-					needsBalance = true;
-				}
+		//The best possible distribution puts totalItems / slots in every slot, and one more in remainder slots
+		int split = totalItems / slots;
+		int remainder = totalItems % slots;
+		int largerSlots = 0;
+		boolean needsBalance = false;
+		for (int i = 0; i < slots; i++) {
+			int count = inventory.getStack(balanceSlots[i]).getCount();
+			if (count == split + 1) {
+				largerSlots++;
+			} else if (count != split) {
+				needsBalance = true;
+				break;
 			}
-			if (!needsBalance) {
-				return Optional.empty();
-			}
-		} else {
+		}
+		if (!needsBalance && largerSlots == remainder) {
 			return Optional.empty();
 		}
 
-		//Slot, count
-		Pair<Integer, Integer> bestSlot = null;
-		for (Integer slot : possibleSlots) {
-			ItemStack slotStack = inventory.getStack(slot);
-			if (slotStack.isEmpty()) {
-				bestSlot = Pair.of(slot, 0);
-			}
-			if (bestSlot == null) {
-				bestSlot = Pair.of(slot, slotStack.getCount());
-			} else if (bestSlot.getRight() >= slotStack.getCount()) {
-				bestSlot = Pair.of(slot, slotStack.getCount());
+		int bestSlot = -1;
+		int bestCount = 0;
+		for (int i = 0; i < slots; i++) {
+			int count = inventory.getStack(balanceSlots[i]).getCount();
+			if (bestSlot == -1 || bestCount >= count) {
+				bestSlot = balanceSlots[i];
+				bestCount = count;
 			}
 		}
-		if (bestSlot.getLeft() == balanceSlot
-				|| bestSlot.getRight() == sourceStack.getCount()
-				|| inventory.getStack(bestSlot.getLeft()).isEmpty()
-				|| !ItemUtils.isItemEqual(sourceStack, inventory.getStack(bestSlot.getLeft()), true, true)) {
+		if (bestSlot == balanceSlot
+				|| bestCount == sourceStack.getCount()
+				|| inventory.getStack(bestSlot).isEmpty()
+				|| !ItemUtils.isItemEqual(sourceStack, inventory.getStack(bestSlot), true, true)) {
 			return Optional.empty();
 		}
 		sourceStack.decrement(1);
-		inventory.getStack(bestSlot.getLeft()).increment(1);
+		inventory.getStack(bestSlot).increment(1);
 		inventory.setHashChanged();
 
 		return Optional.of(getCraftingInventory());
 	}
 
+	private boolean containsSlot(int slots, int slot) {
+		for (int i = 0; i < slots; i++) {
+			if (balanceSlots[i] == slot) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	// PowerAcceptorBlockEntity
 	@Override
 	public void tick(World world, BlockPos pos, BlockState state, MachineBaseBlockEntity blockEntity) {
@@ -356,21 +361,32 @@ public class AutoCraftingTableBlockEntity extends PowerAcceptorBlockEntity
 		if (world == null || world.isClient) {
 			return;
 		}
-		CraftingRecipe recipe = getCurrentRecipe();
+		// Recipe lookup, output space and balancing only have to be checked again after the inventory changed
+		if (inventory.hasChanged()) {
+			inventory.resetHasChanged();
+			onInventoryChanged();
+		}
+		CraftingRecipe recipe = currentRecipe;
 		if (recipe == null) {
 			progress = 0;
 			return;
 		}
 
-		Optional<CraftingInventory> balanceResult = balanceRecipe(getCraftingInventory());
-		balanceResult.ifPresent(craftingInventory -> inventoryCrafting = craftingInventory);
+		if (balanceChecksLeft > 0) {
+			if (balanceRecipe(getCraftingInventory()).isPresent()) {
+				inventory.resetHasChanged();
+				onInventoryChanged();
+			} else {
+				balanceChecksLeft--;
+			}
+		}
 
 		if (progress >= maxProgress) {
 			if (make(recipe)) {
 				progress = 0;
 			}
 		} else {
-			if (canMake(recipe)) {
+			if (canMakeRecipe) {
 				if (getStored() > euTick) {
 					progress++;
 					if (progress == 1) {
@@ -452,8 +468,8 @@ public class AutoCraftingTableBlockEntity extends PowerAcceptorBlockEntity
 				.slot(6, 28, 61).slot(7, 46, 61).slot(8, 64, 61)
 				.outputSlot(OUTPUT_SLOT, 145, 42)
 				.outputSlot(EXTRA_OUTPUT_SLOT, 145, 70)
-				.syncEnergyValue().sync(this::getProgress, this::setProgress)
-				.sync(this::getMaxProgress, this::setMaxProgress)
+				.syncEnergyValue().syncInt(this::getProgress, this::setProgress)
+				.syncInt(this::getMaxProgress, this::setMaxProgress)
 				.sync(this::getLockedInt, this::setLockedInt).addInventory().create(this, syncID);
 	}
 
@@ -484,4 +500,10 @@ public class AutoCraftingTableBlockEntity extends PowerAcceptorBlockEntity
 		locked = lockedInt == 1;
 	}
 
+	public void setLocked(boolean locked) {
+		this.locked = locked;
+		// canMake depends on the lock
+		inventory.setHashChanged();
+	}
+
 }
@@ -27,14 +27,15 @@ package techreborn.blockentity.machine.tier1;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.inventory.CraftingInventory;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.recipe.Ingredient;
 import net.minecraft.screen.ScreenHandler;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
-import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import reborncore.api.IToolDrop;
@@ -44,6 +45,7 @@ import reborncore.client.screen.builder.BuiltScreenHandler;
 import reborncore.client.screen.builder.ScreenHandlerBuilder;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
 import reborncore.common.blocks.BlockMachineBase;
+import reborncore.common.crafting.RecipeIndex;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import reborncore.common.util.ItemUtils;
 import reborncore.common.util.RebornInventory;
@@ -54,11 +56,10 @@ import techreborn.init.ModRecipes;
 import techreborn.init.TRBlockEntities;
 import techreborn.init.TRContent;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 //TODO add tick and power bars.
 
@@ -67,6 +68,16 @@ public class RollingMachineBlockEntity extends PowerAcceptorBlockEntity
 
 	public int[] craftingSlots = new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8};
 	private CraftingInventory craftCache;
+	// Layout of the crafting grid the cached recipe was matched against, stack counts do not change the match
+	private final Item[] matchedItems = new Item[9];
+	private final NbtCompound[] matchedNbt = new NbtCompound[9];
+	private boolean craftCacheChanged = true;
+	@Nullable
+	private RecipeIndex<RollingMachineRecipe> matchedRecipeIndex;
+	@Nullable
+	private RollingMachineRecipe matchedRecipe;
+	// Reused by balanceRecipe
+	private final int[] balanceSlots = new int[9];
 	public RebornInventory<RollingMachineBlockEntity> inventory = new RebornInventory<>(12, "RollingMachineBlockEntity", 64, this);
 	public boolean isRunning;
 	public int tickTime;
@@ -118,9 +129,11 @@ public class RollingMachineBlockEntity extends PowerAcceptorBlockEntity
 				Optional<CraftingInventory> balanceResult = balanceRecipe(craftMatrix);
 				if (balanceResult.isPresent()) {
 					craftMatrix = balanceResult.get();
+					currentRecipe = findMatchingRecipe(craftMatrix, world);
 				}
 			}
-			currentRecipeOutput = currentRecipe.craft(craftMatrix);
+			// Same as craft for the shaped recipes, without copying the output every tick
+			currentRecipeOutput = currentRecipe != null ? currentRecipe.getOutput() : ItemStack.EMPTY;
 		} else {
 			currentRecipeOutput = ItemStack.EMPTY;
 		}
@@ -208,79 +221,58 @@ public class RollingMachineBlockEntity extends PowerAcceptorBlockEntity
 		if (sourceStack.isEmpty()) {
 			return Optional.empty();
 		}
-		List<Integer> possibleSlots = new ArrayList<>();
-		for (int s = 0; s < currentRecipe.getIngredients().size(); s++) {
+		int slots = 0;
+		int totalItems = 0;
+		List<Ingredient> ingredients = currentRecipe.getIngredients();
+		for (int s = 0; s < ingredients.size(); s++) {
 			ItemStack stackInSlot = inventory.getStack(s);
-			Ingredient ingredient = currentRecipe.getIngredients().get(s);
+			Ingredient ingredient = ingredients.get(s);
 			if (ingredient != Ingredient.EMPTY && ingredient.test(sourceStack)) {
-				if (stackInSlot.isEmpty()) {
-					possibleSlots.add(s);
-				} else if (stackInSlot.getItem() == sourceStack.getItem()) {
-					possibleSlots.add(s);
+				if (stackInSlot.isEmpty() || stackInSlot.getItem() == sourceStack.getItem()) {
+					balanceSlots[slots++] = s;
+					totalItems += stackInSlot.getCount();
 				}
 			}
 		}
+		if (slots == 0) {
+			return Optional.empty();
+		}
 
-		if (!possibleSlots.isEmpty()) {
-			int totalItems = possibleSlots.stream()
-					.mapToInt(value -> inventory.getStack(value).getCount()).sum();
-			int slots = possibleSlots.size();
-
-			//This makes an array of ints with the best possible slot EnvTyperibution
-			int[] split = new int[slots];
-			int remainder = totalItems % slots;
-			Arrays.fill(split, totalItems / slots);
-			while (remainder > 0) {
-				for (int i = 0; i < split.length; i++) {
-					if (remainder > 0) {
-						split[i] += 1;
-						remainder--;
-					}
-				}
-			}
-
-			List<Integer> slotEnvTyperubution = possibleSlots.stream()
-					.mapToInt(value -> inventory.getStack(value).getCount())
-					.boxed().collect(Collectors.toList());
-
-			boolean needsBalance = false;
-			for (int required : split) {
-				if (slotEnvTyperubution.contains(required)) {
-					//We need to remove the int, not at the int, this seems to work around that
-					slotEnvTyperubution.remove(Integer.valueOf(required));
-				} else {
-					needsBalance = true;
-				}
-			}
-			if (!needsBalance) {
-				return Optional.empty();
+		//The best possible distribution puts totalItems / slots in every slot, and one more in remainder slots
+		int split = totalItems / slots;
+		int remainder = totalItems % slots;
+		int largerSlots = 0;
+		boolean needsBalance = false;
+		for (int i = 0; i < slots; i++) {
+			int count = inventory.getStack(balanceSlots[i]).getCount();
+			if (count == split + 1) {
+				largerSlots++;
+			} else if (count != split) {
+				needsBalance = true;
+				break;
 			}
-		} else {
+		}
+		if (!needsBalance && largerSlots == remainder) {
 			return Optional.empty();
 		}
 
-		//Slot, count
-		Pair<Integer, Integer> bestSlot = null;
-		for (Integer slot : possibleSlots) {
-			ItemStack slotStack = inventory.getStack(slot);
-			if (slotStack.isEmpty()) {
-				bestSlot = Pair.of(slot, 0);
-			}
-			if (bestSlot == null) {
-				bestSlot = Pair.of(slot, slotStack.getCount());
-			} else if (bestSlot.getRight() >= slotStack.getCount()) {
-				bestSlot = Pair.of(slot, slotStack.getCount());
+		int bestSlot = -1;
+		int bestCount = 0;
+		for (int i = 0; i < slots; i++) {
+			int count = inventory.getStack(balanceSlots[i]).getCount();
+			if (bestSlot == -1 || bestCount >= count) {
+				bestSlot = balanceSlots[i];
+				bestCount = count;
 			}
 		}
-		if (bestSlot == null
-				|| bestSlot.getLeft() == balanceSlot
-				|| bestSlot.getRight() == sourceStack.getCount()
-				|| inventory.getStack(bestSlot.getLeft()).isEmpty()
-				|| !ItemUtils.isItemEqual(sourceStack, inventory.getStack(bestSlot.getLeft()), true, true)) {
+		if (bestSlot == balanceSlot
+				|| bestCount == sourceStack.getCount()
+				|| inventory.getStack(bestSlot).isEmpty()
+				|| !ItemUtils.isItemEqual(sourceStack, inventory.getStack(bestSlot), true, true)) {
 			return Optional.empty();
 		}
 		sourceStack.decrement(1);
-		inventory.getStack(bestSlot.getLeft()).increment(1);
+		inventory.getStack(bestSlot).increment(1);
 		inventory.setHashChanged();
 
 		return Optional.of(getCraftingMatrix());
@@ -295,6 +287,7 @@ public class RollingMachineBlockEntity extends PowerAcceptorBlockEntity
 				craftCache.setStack(i, inventory.getStack(i).copy());
 			}
 			inventory.resetHasChanged();
+			craftCacheChanged = true;
 		}
 		return craftCache;
 	}
@@ -332,6 +325,52 @@ public class RollingMachineBlockEntity extends PowerAcceptorBlockEntity
 	}
 
 	public RollingMachineRecipe findMatchingRecipe(CraftingInventory inv, World world) {
+		if (inv == craftCache && world == this.world) {
+			return getMatchedRecipe();
+		}
+		return searchRecipe(inv, world);
+	}
+
+	/**
+	 * @return the recipe matching the crafting grid, only searched again when the items in the grid or the recipes change
+	 */
+	@Nullable
+	private RollingMachineRecipe getMatchedRecipe() {
+		RecipeIndex<RollingMachineRecipe> recipeIndex = ModRecipes.ROLLING_MACHINE.getRecipeIndex(world);
+		if (recipeIndex != matchedRecipeIndex) {
+			matchedRecipeIndex = recipeIndex;
+			craftCacheChanged = true;
+			// Force a new search even if the layout is the same
+			Arrays.fill(matchedItems, null);
+		}
+		if (craftCacheChanged) {
+			craftCacheChanged = false;
+			if (updateMatchedLayout()) {
+				matchedRecipe = searchRecipe(craftCache, world);
+			}
+		}
+		return matchedRecipe;
+	}
+
+	/**
+	 * @return true if the items in the crafting grid changed since the last call
+	 */
+	private boolean updateMatchedLayout() {
+		boolean changed = false;
+		for (int i = 0; i < 9; i++) {
+			ItemStack stack = craftCache.getStack(i);
+			Item item = stack.isEmpty() ? Items.AIR : stack.getItem();
+			NbtCompound nbt = stack.getNbt();
+			if (matchedItems[i] != item || !Objects.equals(matchedNbt[i], nbt)) {
+				matchedItems[i] = item;
+				matchedNbt[i] = nbt;
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	private RollingMachineRecipe searchRecipe(CraftingInventory inv, World world) {
 		for (RollingMachineRecipe recipe : getAllRecipe(world)) {
 			if (recipe.matches(inv, world)) {
 				return recipe;
@@ -392,7 +431,7 @@ public class RollingMachineBlockEntity extends PowerAcceptorBlockEntity
 				.onCraft(inv -> this.inventory.setStack(1, findMatchingRecipeOutput(getCraftingMatrix(), this.world)))
 				.outputSlot(9, 124, 40)
 				.energySlot(10, 8, 70)
-				.syncEnergyValue().sync(this::getBurnTime, this::setBurnTime).sync(this::getLockedInt, this::setLockedInt).addInventory().create(this, syncID);
+				.syncEnergyValue().syncInt(this::getBurnTime, this::setBurnTime).sync(this::getLockedInt, this::setLockedInt).addInventory().create(this, syncID);
 	}
 
 	//Easyest way to sync back to the client
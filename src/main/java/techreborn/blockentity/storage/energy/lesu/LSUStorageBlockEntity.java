@@ -25,11 +25,10 @@
 package techreborn.blockentity.storage.energy.lesu;
 
 import net.minecraft.block.BlockState;
-import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
 import reborncore.api.IToolDrop;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
@@ -39,67 +38,60 @@ import techreborn.init.TRContent;
 public class LSUStorageBlockEntity extends MachineBaseBlockEntity
 		implements IToolDrop {
 
-	public LesuNetwork network;
+	LesuNetwork network;
+	private boolean loaded = false;
 
 	public LSUStorageBlockEntity(BlockPos pos, BlockState state) {
 		super(TRBlockEntities.LSU_STORAGE, pos, state);
 	}
 
-	public final void findAndJoinNetwork(World world, BlockPos pos) {
-		network = new LesuNetwork();
-		network.addElement(this);
-		for (Direction direction : Direction.values()) {
-			BlockEntity be = world.getBlockEntity(pos.offset(direction));
-			if (!(be instanceof LSUStorageBlockEntity lesuStorage)) {
-				continue;
-			}
-			if (lesuStorage.network != null) {
-				lesuStorage.network.merge(network);
-			}
+	/**
+	 * @return Network this storage belongs to, built first if it isn't known yet
+	 */
+	public final LesuNetwork getOrBuildNetwork() {
+		if (network == null || !network.isValid()) {
+			return LesuNetwork.build(this);
 		}
+		return network;
 	}
 
-	public final void setNetwork(LesuNetwork n) {
-		if (n == null) {
+	public final void joinNetwork() {
+		if (world == null || world.isClient) {
 			return;
 		}
-		network = n;
-		network.addElement(this);
-	}
-
-	public final void resetNetwork() {
-		network = null;
+		LesuNetwork.join(this);
 	}
 
 	public final void removeFromNetwork() {
 		if (network == null) {
 			return;
 		}
-		network.removeElement(this);
+		network.remove(this);
 	}
 
-	public final void rebuildNetwork() {
-		removeFromNetwork();
-		resetNetwork();
-		findAndJoinNetwork(world, pos);
+	// MachineBaseBlockEntity
+	@Override
+	public void readNbt(NbtCompound tagCompound) {
+		super.readNbt(tagCompound);
+		loaded = true;
 	}
 
-	// TileMachineBase
 	@Override
-	public void tick(World world, BlockPos pos, BlockState state, MachineBaseBlockEntity blockEntity) {
-		super.tick(world, pos, state, blockEntity);
-		if (world == null || world.isClient) {
-			return;
+	public void setWorld(World world) {
+		super.setWorld(world);
+		if (loaded && !world.isClient) {
+			LesuNetwork.onStorageLoaded();
 		}
+		loaded = false;
+	}
 
-		if (network == null) {
-			findAndJoinNetwork(world, pos);
-		} else {
-			if (network.master != null
-					&& network.master.getWorld().getBlockEntity(new BlockPos(network.master.getPos().getX(),
-					network.master.getPos().getY(), network.master.getPos().getZ())) != network.master) {
-				network.master = null;
-			}
+	@Override
+	public void markRemoved() {
+		super.markRemoved();
+		// Chunk unloads don't go through the block, forget the whole network as it is incomplete now.
+		if (network != null) {
+			network.invalidate();
+			network = null;
 		}
 	}
 
@@ -42,12 +42,10 @@ import techreborn.config.TechRebornConfig;
 import techreborn.init.TRBlockEntities;
 import techreborn.init.TRContent;
 
-import java.util.ArrayList;
-
 public class LapotronicSUBlockEntity extends EnergyStorageBlockEntity implements BuiltScreenHandlerProvider {
 
 	private int connectedBlocks = 0;
-	private final ArrayList<LesuNetwork> countedNetworks = new ArrayList<>();
+	private LesuNetwork network;
 
 	public LapotronicSUBlockEntity(BlockPos pos, BlockState state) {
 		super(TRBlockEntities.LAPOTRONIC_SU, pos, state, "LESU", 2, TRContent.Machine.LAPOTRONIC_SU.block, RcEnergyTier.LOW, TechRebornConfig.lesuStoragePerBlock);
@@ -74,24 +72,22 @@ public class LapotronicSUBlockEntity extends EnergyStorageBlockEntity implements
 	}
 
 	private void checkNetwork() {
-		countedNetworks.clear();
+		if (network != null && network.isValid() && network.master == this) {
+			connectedBlocks = network.getStorageCount();
+			return;
+		}
+		network = null;
 		connectedBlocks = 0;
 		for (Direction dir : Direction.values()) {
 			BlockEntity adjacent = world.getBlockEntity(pos.offset(dir));
 			if (!(adjacent instanceof LSUStorageBlockEntity)) {
 				continue;
 			}
-			LesuNetwork network = ((LSUStorageBlockEntity) adjacent).network;
-			if (network == null) {
-				continue;
-			}
-			if (countedNetworks.contains(network)) {
-				continue;
-			}
-			if (network.master == null || network.master == this) {
-				connectedBlocks += network.storages.size();
-				countedNetworks.add(network);
+			LesuNetwork adjacentNetwork = ((LSUStorageBlockEntity) adjacent).getOrBuildNetwork();
+			if (adjacentNetwork.master == null || adjacentNetwork.master == this) {
+				network = adjacentNetwork;
 				network.master = this;
+				connectedBlocks = network.getStorageCount();
 				break;
 			}
 		}
@@ -117,6 +113,15 @@ public class LapotronicSUBlockEntity extends EnergyStorageBlockEntity implements
 		}
 	}
 
+	// MachineBaseBlockEntity
+	@Override
+	public void markRemoved() {
+		super.markRemoved();
+		if (network != null && network.master == this) {
+			network.master = null;
+		}
+	}
+
 	// IContainerProvider
 	@Override
 	public BuiltScreenHandler createScreenHandler(int syncID, final PlayerEntity player) {
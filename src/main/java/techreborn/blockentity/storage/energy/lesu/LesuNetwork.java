@@ -24,52 +24,208 @@
 
 package techreborn.blockentity.storage.energy.lesu;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
 import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * A connected group of {@link LSUStorageBlockEntity}. Placing a storage merges the networks around it, smaller
+ * networks being relabelled into the largest one. Removing a storage only flood fills the remaining members when
+ * it could have split the network, and stops as soon as all of its former neighbours are found to still be connected.
+ */
 public class LesuNetwork {
+	private static final int MAX_STORAGES = 5000;
+	private static final Direction[] DIRECTIONS = Direction.values();
 
-	public ArrayList<LSUStorageBlockEntity> storages = new ArrayList<>();
+	// Bumped whenever storages are loaded from disk, they may belong to an already built network.
+	private static int generation = 0;
+
+	private final Long2ObjectOpenHashMap<LSUStorageBlockEntity> storages = new Long2ObjectOpenHashMap<>();
+	private final int builtGeneration = generation;
+	private boolean valid = true;
 
 	public LapotronicSUBlockEntity master;
 
-	public void addElement(LSUStorageBlockEntity lesuStorage) {
-		if (!storages.contains(lesuStorage) && storages.size() < 5000) {
-			storages.add(lesuStorage);
-		}
+	public boolean isValid() {
+		return valid && builtGeneration == generation;
 	}
 
-	public void removeElement(LSUStorageBlockEntity lesuStorage) {
-		storages.remove(lesuStorage);
-		rebuild();
+	public int getStorageCount() {
+		return Math.min(storages.size(), MAX_STORAGES);
 	}
 
-	private void rebuild() {
+	public void invalidate() {
+		valid = false;
 		master = null;
-		for (LSUStorageBlockEntity lesuStorage : storages) {
-			lesuStorage.findAndJoinNetwork(lesuStorage.getWorld(), lesuStorage.getPos());
+	}
+
+	static void onStorageLoaded() {
+		generation++;
+	}
+
+	private void add(LSUStorageBlockEntity storage) {
+		storages.put(storage.getPos().asLong(), storage);
+		storage.network = this;
+	}
+
+	/**
+	 * Builds the whole network containing the given storage by walking the world.
+	 */
+	static LesuNetwork build(LSUStorageBlockEntity start) {
+		World world = start.getWorld();
+		LesuNetwork network = new LesuNetwork();
+		LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+		BlockPos.Mutable mutable = new BlockPos.Mutable();
+		network.add(start);
+		queue.enqueue(start.getPos().asLong());
+		while (!queue.isEmpty()) {
+			long current = queue.dequeueLong();
+			for (Direction direction : DIRECTIONS) {
+				mutable.set(current).move(direction);
+				long offset = mutable.asLong();
+				if (network.storages.containsKey(offset) || !world.isChunkLoaded(mutable)) {
+					continue;
+				}
+				if (!(world.getBlockEntity(mutable) instanceof LSUStorageBlockEntity storage) || storage.isRemoved()) {
+					continue;
+				}
+				if (storage.network != null && storage.network != network) {
+					storage.network.invalidate();
+				}
+				network.add(storage);
+				queue.enqueue(offset);
+			}
 		}
+		return network;
 	}
 
-	public void merge(LesuNetwork network) {
-		if (network != this) {
-			ArrayList<LSUStorageBlockEntity> blockEntityLesuStorages = new ArrayList<>(network.storages);
-			network.clear(false);
-			for (LSUStorageBlockEntity lesuStorage : blockEntityLesuStorages) {
-				lesuStorage.setNetwork(this);
+	/**
+	 * Adds a newly placed storage, merging all the networks next to it.
+	 */
+	static void join(LSUStorageBlockEntity storage) {
+		World world = storage.getWorld();
+		List<LesuNetwork> neighbours = new ArrayList<>(6);
+		LesuNetwork largest = null;
+		for (Direction direction : DIRECTIONS) {
+			if (!(world.getBlockEntity(storage.getPos().offset(direction)) instanceof LSUStorageBlockEntity neighbour)) {
+				continue;
+			}
+			LesuNetwork network = neighbour.network;
+			if (network == null || !network.isValid()) {
+				// The neighbour isn't part of a complete network yet, walk everything once.
+				build(storage);
+				return;
 			}
-			if (network.master != null && this.master == null) {
-				this.master = network.master;
+			if (!neighbours.contains(network)) {
+				neighbours.add(network);
+				if (largest == null || network.storages.size() > largest.storages.size()) {
+					largest = network;
+				}
 			}
 		}
+		if (largest == null) {
+			largest = new LesuNetwork();
+		}
+		for (LesuNetwork network : neighbours) {
+			if (network == largest) {
+				continue;
+			}
+			for (LSUStorageBlockEntity member : network.storages.values()) {
+				largest.add(member);
+			}
+			if (largest.master == null) {
+				largest.master = network.master;
+			}
+			network.invalidate();
+		}
+		largest.add(storage);
 	}
 
-	private void clear(boolean clearBlockEntities) {
-		if (clearBlockEntities) {
-			for (LSUStorageBlockEntity blockEntityLesuStorage : storages) {
-				blockEntityLesuStorage.resetNetwork();
+	/**
+	 * Removes a storage, splitting the network if that disconnected it.
+	 */
+	void remove(LSUStorageBlockEntity storage) {
+		storage.network = null;
+		if (!isValid()) {
+			return;
+		}
+		long removed = storage.getPos().asLong();
+		storages.remove(removed);
+
+		LongArrayList neighbours = new LongArrayList(6);
+		BlockPos.Mutable mutable = new BlockPos.Mutable();
+		for (Direction direction : DIRECTIONS) {
+			long offset = mutable.set(removed).move(direction).asLong();
+			if (storages.containsKey(offset)) {
+				neighbours.add(offset);
+			}
+		}
+		if (neighbours.size() <= 1) {
+			return;
+		}
+
+		LongSet found = floodFill(neighbours.getLong(0), neighbours);
+		boolean connected = true;
+		for (int i = 1; i < neighbours.size(); i++) {
+			if (!found.contains(neighbours.getLong(i))) {
+				connected = false;
+				break;
+			}
+		}
+		if (connected) {
+			return;
+		}
+
+		// The network got split, give every part its own network. The master will find its part again.
+		invalidate();
+		for (int i = 0; i < neighbours.size(); i++) {
+			LSUStorageBlockEntity start = storages.get(neighbours.getLong(i));
+			if (start.network != this) {
+				continue;
+			}
+			LesuNetwork part = new LesuNetwork();
+			for (long member : floodFill(neighbours.getLong(i), null)) {
+				part.add(storages.get(member));
 			}
 		}
-		storages.clear();
 	}
 
+	/**
+	 * Flood fills the members connected to the given position.
+	 *
+	 * @param start   Position to start from
+	 * @param targets If not {@code null}, stops as soon as all of these positions have been reached, must contain {@code start}
+	 * @return Set of reached positions
+	 */
+	private LongSet floodFill(long start, @Nullable LongArrayList targets) {
+		LongSet visited = new LongOpenHashSet();
+		LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+		BlockPos.Mutable mutable = new BlockPos.Mutable();
+		// The start position is one of the targets
+		int remaining = targets == null ? -1 : targets.size() - 1;
+		visited.add(start);
+		queue.enqueue(start);
+		while (!queue.isEmpty() && remaining != 0) {
+			long current = queue.dequeueLong();
+			for (Direction direction : DIRECTIONS) {
+				long offset = mutable.set(current).move(direction).asLong();
+				if (storages.containsKey(offset) && visited.add(offset)) {
+					if (targets != null && targets.contains(offset)) {
+						remaining--;
+					}
+					queue.enqueue(offset);
+				}
+			}
+		}
+		return visited;
+	}
 }
@@ -27,7 +27,9 @@ package techreborn.blockentity.storage.fluid;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.text.LiteralText;
 import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
@@ -38,12 +40,14 @@ import org.apache.commons.lang3.text.WordUtils;
 import org.jetbrains.annotations.Nullable;
 import reborncore.api.IListInfoProvider;
 import reborncore.api.IToolDrop;
+import reborncore.api.blockentity.DeltaSyncable;
 import reborncore.api.blockentity.InventoryProvider;
 import reborncore.client.screen.BuiltScreenHandlerProvider;
 import reborncore.client.screen.builder.BuiltScreenHandler;
 import reborncore.client.screen.builder.ScreenHandlerBuilder;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
 import reborncore.common.fluid.FluidValue;
+import reborncore.common.network.BlockEntitySyncScheduler;
 import reborncore.common.fluid.container.FluidInstance;
 import reborncore.common.util.RebornInventory;
 import reborncore.common.util.Tank;
@@ -53,7 +57,7 @@ import reborncore.common.fluid.FluidUtils;
 
 import java.util.List;
 
-public class TankUnitBaseBlockEntity extends MachineBaseBlockEntity implements InventoryProvider, IToolDrop, IListInfoProvider, BuiltScreenHandlerProvider {
+public class TankUnitBaseBlockEntity extends MachineBaseBlockEntity implements InventoryProvider, IToolDrop, IListInfoProvider, BuiltScreenHandlerProvider, DeltaSyncable {
 	protected Tank tank;
 	private long serverMaxCapacity = -1;
 
@@ -101,7 +105,7 @@ public class TankUnitBaseBlockEntity extends MachineBaseBlockEntity implements I
 					tank.setFluidAmount(tank.getFluidValueCapacity());
 				}
 			}
-			syncWithAll();
+			BlockEntitySyncScheduler.markDirty(this);
 		}
 
 		// Void excessive fluid in creative tank (#2205)
@@ -195,6 +199,27 @@ public class TankUnitBaseBlockEntity extends MachineBaseBlockEntity implements I
 		this.serverMaxCapacity = maxCapacity;
 	}
 
+	// DeltaSyncable
+	@Override
+	public void writeDelta(PacketByteBuf buf) {
+		tank.getResource().toPacket(buf);
+		buf.writeVarLong(tank.getAmount());
+	}
+
+	@Override
+	public void readDelta(PacketByteBuf buf) {
+		FluidVariant variant = FluidVariant.fromPacket(buf);
+		long amount = buf.readVarLong();
+		if (tank == null) {
+			return;
+		}
+		FluidInstance instance = new FluidInstance(variant.getFluid(), FluidValue.fromRaw(amount));
+		if (variant.hasNbt()) {
+			instance.setTag(variant.copyNbt());
+		}
+		tank.setFluidInstance(instance);
+	}
+
 	@Nullable
 	@Override
 	public Tank getTank() {
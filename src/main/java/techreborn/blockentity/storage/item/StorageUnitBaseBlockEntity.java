@@ -26,14 +26,19 @@ package techreborn.blockentity.storage.item;
 
 import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
 import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
-import net.fabricmc.fabric.api.transfer.v1.item.base.SingleStackStorage;
 import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.StoragePreconditions;
 import net.fabricmc.fabric.api.transfer.v1.storage.base.CombinedStorage;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.SingleSlotStorage;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+import net.fabricmc.fabric.api.transfer.v1.transaction.base.SnapshotParticipant;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.resource.language.I18n;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.text.LiteralText;
 import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
@@ -44,11 +49,13 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
 import reborncore.api.IListInfoProvider;
 import reborncore.api.IToolDrop;
+import reborncore.api.blockentity.DeltaSyncable;
 import reborncore.api.blockentity.InventoryProvider;
 import reborncore.client.screen.BuiltScreenHandlerProvider;
 import reborncore.client.screen.builder.BuiltScreenHandler;
 import reborncore.client.screen.builder.ScreenHandlerBuilder;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
+import reborncore.common.network.BlockEntitySyncScheduler;
 import reborncore.common.util.ItemUtils;
 import reborncore.common.util.RebornInventory;
 import reborncore.common.util.WorldUtils;
@@ -58,22 +65,31 @@ import techreborn.init.TRContent;
 import java.util.List;
 import java.util.Objects;
 
-public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implements InventoryProvider, IToolDrop, IListInfoProvider, BuiltScreenHandlerProvider {
+public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implements InventoryProvider, IToolDrop, IListInfoProvider, BuiltScreenHandlerProvider, DeltaSyncable {
 
 	// Inventory constants
 	public static final int INPUT_SLOT = 0;
 	public static final int OUTPUT_SLOT = 1;
 
 	// Client sync variables for GUI, what and how much stored
-	public int storedAmount = 0;
+	public long storedAmount = 0;
 
 	protected RebornInventory<StorageUnitBaseBlockEntity> inventory;
-	private int maxCapacity;
-	private int serverCapacity = -1;
-
-	private ItemStack storeItemStack;
-	// Fabric transfer API support for the internal stack (one per direction);
-	private final SingleStackStorage[] internalStoreStorage = new SingleStackStorage[6];
+	private long maxCapacity;
+	private long serverCapacity = -1;
+
+	// The stored items, not including the output slot
+	private ItemVariant storedVariant = ItemVariant.blank();
+	private long storedCount = 0;
+	// A single item of the stored variant, returned by getStoredStack()
+	private ItemStack storedStack = ItemStack.EMPTY;
+	// Fabric transfer API support for the stored items
+	private final UnitStorage unitStorage = new UnitStorage();
+	@SuppressWarnings("unchecked")
+	private final Storage<ItemVariant>[] exposedStorages = new Storage[6];
+	// Set when the stored items changed outside of the inventory, the clients are updated on the next tick
+	private boolean storageChanged = false;
+	private boolean ticked = false;
 
 	private TRContent.StorageUnit type;
 
@@ -97,7 +113,7 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 		if(serverCapacity == -1){
 			this.maxCapacity = type.capacity;
 		}
-		storeItemStack = ItemStack.EMPTY;
+		setStored(ItemVariant.blank(), 0);
 		this.type = type;
 	}
 
@@ -127,40 +143,31 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 		return !isEmpty();
 	}
 
-	private void populateOutput() {
-		// Set to storeItemStack to get the stack type
-		ItemStack output = storeItemStack.copy();
+	private void setStored(ItemVariant variant, long count) {
+		if (count <= 0) {
+			variant = ItemVariant.blank();
+			count = 0;
+		}
+		if (!variant.equals(storedVariant)) {
+			storedVariant = variant;
+			storedStack = variant.toStack();
+		}
+		storedCount = count;
+	}
 
+	private void populateOutput() {
+		ItemVariant variant = storedVariant;
 		int outputSlotCount = inventory.getStack(OUTPUT_SLOT).getCount();
 
-		// Set to current outputSlot count
-		output.setCount(outputSlotCount);
-
 		// Calculate amount needed to fill stack in output slot
-		int amountToFill = getStoredStack().getMaxCount() - outputSlotCount;
-
-		if (storeItemStack.getCount() >= amountToFill) {
-			storeItemStack.decrement(amountToFill);
-
-			if (storeItemStack.isEmpty()) {
-				storeItemStack = ItemStack.EMPTY;
-			}
-
-			output.increment(amountToFill);
-		} else {
-			output.increment(storeItemStack.getCount());
-			storeItemStack = ItemStack.EMPTY;
-		}
+		int amountToFill = (int) Math.min(storedStack.getMaxCount() - outputSlotCount, storedCount);
 
-		inventory.setStack(OUTPUT_SLOT, output);
-	}
-
-	private void addStoredItemCount(int amount) {
-		storeItemStack.increment(amount);
+		setStored(variant, storedCount - amountToFill);
+		inventory.setStack(OUTPUT_SLOT, variant.toStack(outputSlotCount + amountToFill));
 	}
 
 	public ItemStack getStoredStack() {
-		return storeItemStack.isEmpty() ? inventory.getStack(OUTPUT_SLOT) : storeItemStack;
+		return storedCount > 0 ? storedStack : inventory.getStack(OUTPUT_SLOT);
 	}
 
 	// Returns the ItemStack to be displayed to the player via UI / model
@@ -178,47 +185,31 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 
 		if (!isEmpty()) {
 			returnStack = getStoredStack().copy();
-			returnStack.setCount(getCurrentCapacity());
+			returnStack.setCount((int) Math.min(getCurrentCapacity(), Integer.MAX_VALUE));
 		}
 
 		return returnStack;
 	}
 
+	/**
+	 * Stores as much of the stack as possible
+	 *
+	 * @param inputStack the stack to store, its count is decreased by the stored amount
+	 * @return what could not be stored
+	 */
 	public ItemStack processInput(ItemStack inputStack) {
+		if (inputStack.isEmpty()) {
+			return inputStack;
+		}
 
-		boolean isSameStack = isSameType(inputStack);
-
-		if (storeItemStack == ItemStack.EMPTY && (isSameStack || (getCurrentCapacity() == 0 && !isLocked()))) {
-			// Check if storage is empty, NOT including the output slot
-			storeItemStack = inputStack.copy();
-
-			if (inputStack.getCount() <= maxCapacity) {
-				inputStack = ItemStack.EMPTY;
-			} else {
-				// Stack is higher than capacity
-				storeItemStack.setCount(maxCapacity);
-				inputStack.decrement(maxCapacity);
-			}
-		} else if (isSameStack) {
-			// Not empty but same type
-
-			// Amount of items that can be added before reaching capacity
-			int reminder = maxCapacity - getCurrentCapacity();
-
-
-			if (inputStack.getCount() <= reminder) {
-				// Add full stack
-				addStoredItemCount(inputStack.getCount());
-				inputStack = ItemStack.EMPTY;
-			} else {
-				// Add only what is needed to reach max capacity
-				addStoredItemCount(reminder);
-				inputStack.decrement(reminder);
-			}
+		try (Transaction transaction = Transaction.openOuter()) {
+			long inserted = unitStorage.insert(ItemVariant.of(inputStack), inputStack.getCount(), transaction);
+			transaction.commit();
+			inputStack.decrement((int) inserted);
 		}
 
 		inventory.setHashChanged();
-		return inputStack;
+		return inputStack.isEmpty() ? ItemStack.EMPTY : inputStack;
 	}
 
 	public boolean isSameType(ItemStack inputStack) {
@@ -232,25 +223,57 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 		return false;
 	}
 
+	private boolean isSameType(ItemVariant variant) {
+		if (isLocked()) {
+			return variant.matches(lockedItemStack);
+		}
+		if (storedCount > 0) {
+			return storedVariant.equals(variant);
+		}
+		ItemStack output = inventory.getStack(OUTPUT_SLOT);
+		return !output.isEmpty() && variant.matches(output);
+	}
+
 	// Creative function
 	private void fillToCapacity() {
-		storeItemStack = getStoredStack();
-		storeItemStack.setCount(maxCapacity);
-
-		inventory.setStack(OUTPUT_SLOT, ItemStack.EMPTY);
+		// The output slot keeps its items, so the unit stays full once filled
+		setStored(ItemVariant.of(getStoredStack()), maxCapacity - inventory.getStack(OUTPUT_SLOT).getCount());
 	}
 
 	public boolean isFull() {
-		return getCurrentCapacity() == maxCapacity;
+		return getCurrentCapacity() >= maxCapacity;
+	}
+
+	public long getCurrentCapacity() {
+		return storedCount + inventory.getStack(OUTPUT_SLOT).getCount();
 	}
 
-	public int getCurrentCapacity() {
-		return storeItemStack.getCount() + inventory.getStack(OUTPUT_SLOT).getCount();
+	// True when there is nothing to move between the slots and the storage, and no sync is pending
+	private boolean isIdle() {
+		if (inventory.hasChanged() || storageChanged) {
+			return false;
+		}
+		if (!inventory.getStack(INPUT_SLOT).isEmpty() && (!isFull() || type == TRContent.StorageUnit.CREATIVE)) {
+			return false;
+		}
+		if (storedCount > 0 && inventory.getStack(OUTPUT_SLOT).getCount() < storedStack.getMaxCount()) {
+			return false;
+		}
+		if (type == TRContent.StorageUnit.CREATIVE && !isFull() && !isEmpty()) {
+			return false;
+		}
+		// The slot configuration can still move items to and from the neighbours
+		return !getSlotConfiguration().hasActiveTransfers();
 	}
 
 	// MachineBaseBlockEntity
 	@Override
 	public void tick(World world, BlockPos pos, BlockState state, MachineBaseBlockEntity blockEntity) {
+		// The first tick loads the machine, after that the unit only works when something changed
+		if (ticked && (world == null || world.isClient || isIdle())) {
+			return;
+		}
+		ticked = true;
 		super.tick(world, pos, state, blockEntity);
 		if (world == null || world.isClient) {
 			return;
@@ -262,7 +285,7 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 		}
 
 		// Fill output slot with goodies when stored has items and output count is less than max stack size
-		if (storeItemStack.getCount() > 0 && inventory.getStack(OUTPUT_SLOT).getCount() < getStoredStack().getMaxCount()) {
+		if (storedCount > 0 && inventory.getStack(OUTPUT_SLOT).getCount() < storedStack.getMaxCount()) {
 			populateOutput();
 		}
 
@@ -271,12 +294,15 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 				fillToCapacity();
 			}
 			// void input items for creative storage (#2205)
-			inventory.setStack(INPUT_SLOT, ItemStack.EMPTY);
+			if (!inventory.getStack(INPUT_SLOT).isEmpty()) {
+				inventory.setStack(INPUT_SLOT, ItemStack.EMPTY);
+			}
 		}
 
-		if (inventory.hasChanged()) {
-			syncWithAll();
+		if (inventory.hasChanged() || storageChanged) {
+			BlockEntitySyncScheduler.markDirty(this);
 			inventory.resetHasChanged();
+			storageChanged = false;
 		}
 	}
 
@@ -301,19 +327,17 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 			this.type = TRContent.StorageUnit.QUANTUM;
 		}
 
-		storeItemStack = ItemStack.EMPTY;
+		setStored(ItemVariant.blank(), 0);
 
 		if (tagCompound.contains("storedStack")) {
-			storeItemStack = ItemStack.fromNbt(tagCompound.getCompound("storedStack"));
-		}
-
-		if (!storeItemStack.isEmpty()) {
-			storeItemStack.setCount(Math.min(tagCompound.getInt("storedQuantity"), this.maxCapacity));
+			ItemStack stack = ItemStack.fromNbt(tagCompound.getCompound("storedStack"));
+			// Older saves store an int quantity, getLong reads both
+			setStored(ItemVariant.of(stack), Math.min(tagCompound.getLong("storedQuantity"), this.maxCapacity));
 		}
 
 		// Renderer only
 		if (tagCompound.contains("totalStoredAmount")) {
-			storedAmount = tagCompound.getInt("totalStoredAmount");
+			storedAmount = tagCompound.getLong("totalStoredAmount");
 		}
 
 		if (tagCompound.contains("lockedItem")) {
@@ -327,19 +351,15 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 
 		tagCompound.putString("unitType", this.type.name());
 
-		if (!storeItemStack.isEmpty()) {
-			ItemStack temp = storeItemStack.copy();
-			if (storeItemStack.getCount() > storeItemStack.getMaxCount()) {
-				temp.setCount(storeItemStack.getMaxCount());
-			}
-			tagCompound.put("storedStack", temp.writeNbt(new NbtCompound()));
-			tagCompound.putInt("storedQuantity", Math.min(storeItemStack.getCount(), maxCapacity));
+		if (storedCount > 0) {
+			tagCompound.put("storedStack", storedStack.writeNbt(new NbtCompound()));
+			tagCompound.putLong("storedQuantity", Math.min(storedCount, maxCapacity));
 		} else {
-			tagCompound.putInt("storedQuantity", 0);
+			tagCompound.putLong("storedQuantity", 0);
 		}
 
 		// Renderer only
-		tagCompound.putInt("totalStoredAmount", getCurrentCapacity());
+		tagCompound.putLong("totalStoredAmount", getCurrentCapacity());
 
 		if (isLocked()) {
 			tagCompound.put("lockedItem", lockedItemStack.writeNbt(new NbtCompound()));
@@ -356,25 +376,12 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 			return;
 		}
 
-		if (storeItemStack != ItemStack.EMPTY) {
-			if (storeItemStack.getMaxCount() == 64) {
-				// Drop stacks (In one clump, reduce lag)
-				WorldUtils.dropItem(storeItemStack, world, pos);
-			} else {
-				int size = storeItemStack.getMaxCount();
-
-				for (int i = 0; i < storeItemStack.getCount() / size; i++) {
-					ItemStack toDrop = storeItemStack.copy();
-					toDrop.setCount(size);
-					WorldUtils.dropItem(toDrop, world, pos);
-				}
-
-				if (storeItemStack.getCount() % size != 0) {
-					ItemStack toDrop = storeItemStack.copy();
-					toDrop.setCount(storeItemStack.getCount() % size);
-					WorldUtils.dropItem(toDrop, world, pos);
-				}
+		if (storedCount > 0) {
+			// Drop stacks (In as few clumps as possible, reduce lag)
+			long size = storedStack.getMaxCount() == 64 ? Integer.MAX_VALUE : storedStack.getMaxCount();
 
+			for (long remaining = storedCount; remaining > 0; remaining -= size) {
+				WorldUtils.dropItem(storedVariant.toStack((int) Math.min(remaining, size)), world, pos);
 			}
 		}
 
@@ -459,8 +466,8 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 				.outputSlot(OUTPUT_SLOT, 140, 53)
 				.sync(this::isLockedInt, this::setLockedInt)
 				.sync(this::getStoredStackNBT, this::setStoredStackFromNBT)
-				.sync(this::getStoredAmount, this::setStoredAmount)
-				.sync(this::getMaxCapacity, this::setMaxCapacity)
+				.syncLong(this::getStoredAmount, this::setStoredAmount)
+				.syncLong(this::getMaxCapacity, this::setMaxCapacity)
 				.addInventory().create(this, syncID);
 
 		// Note that inventory is synced, and it gets the stack from that
@@ -475,20 +482,20 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 		setLocked(lockedInt == 1);
 	}
 
-	public int getStoredAmount() {
+	public long getStoredAmount() {
 		return this.getCurrentCapacity();
 	}
 
-	public void setStoredAmount(int storedAmount) {
+	public void setStoredAmount(long storedAmount) {
 		this.storedAmount = storedAmount;
 	}
 
 	// Sync between server/client if configs are mis-matched.
-	public int getMaxCapacity() {
+	public long getMaxCapacity() {
 		return this.maxCapacity;
 	}
 
-	public void setMaxCapacity(int maxCapacity) {
+	public void setMaxCapacity(long maxCapacity) {
 		this.maxCapacity = maxCapacity;
 		this.serverCapacity = maxCapacity;
 	}
@@ -500,59 +507,154 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity implement
 	}
 
 	public void setStoredStackFromNBT(NbtCompound tag) {
-		storeItemStack = ItemStack.fromNbt(tag);
+		ItemStack stack = ItemStack.fromNbt(tag);
+		setStored(ItemVariant.of(stack), stack.getCount());
 	}
 
-	private Storage<ItemVariant> getInternalStoreStorage(Direction side) {
-		Objects.requireNonNull(side);
-		if (internalStoreStorage[side.getId()] == null) {
-			internalStoreStorage[side.getId()] = new SingleStackStorage() {
-				@Override
-				protected ItemStack getStack() {
-					return storeItemStack;
-				}
-
-				@Override
-				protected void setStack(ItemStack stack) {
-					if (stack.isEmpty()) {
-						// Ensure we maintain reference equality to EMPTY
-						storeItemStack = ItemStack.EMPTY;
-					} else {
-						storeItemStack = stack;
-					}
-				}
-
-				@Override
-				protected int getCapacity(ItemVariant itemVariant) {
-					// subtract capacity of output slot (super capacity is the default capacity)
-					return maxCapacity - super.getCapacity(itemVariant);
-				}
-
-				@Override
-				protected boolean canInsert(ItemVariant itemVariant) {
-					// Check insertion with the same rules as the input slot
-					return StorageUnitBaseBlockEntity.this.canInsert(INPUT_SLOT, itemVariant.toStack(), side);
-				}
-
-				@Override
-				protected boolean canExtract(ItemVariant itemVariant) {
-					// Check extraction with the same rules as the output slot
-					return StorageUnitBaseBlockEntity.this.canExtract(OUTPUT_SLOT, itemVariant.toStack(), side);
-				}
-
-				@Override
-				protected void onFinalCommit() {
-					inventory.setHashChanged();
-				}
-			};
-		}
-		return internalStoreStorage[side.getId()];
+	// DeltaSyncable, only what the renderer shows
+	@Override
+	public void writeDelta(PacketByteBuf buf) {
+		(storedCount > 0 ? storedVariant : ItemVariant.of(inventory.getStack(OUTPUT_SLOT))).toPacket(buf);
+		buf.writeVarLong(getCurrentCapacity());
+	}
+
+	@Override
+	public void readDelta(PacketByteBuf buf) {
+		ItemVariant variant = ItemVariant.fromPacket(buf);
+		storedAmount = buf.readVarLong();
+
+		// Split the total between the output slot and storage like populateOutput does, so the client never shows a stale output slot
+		int outputCount = (int) Math.min(storedAmount, variant.isBlank() ? 0 : variant.getItem().getMaxCount());
+		inventory.setStack(OUTPUT_SLOT, variant.toStack(outputCount));
+		setStored(variant, storedAmount - outputCount);
 	}
 
 	public Storage<ItemVariant> getExposedStorage(Direction side) {
-		return new CombinedStorage<>(List.of(
-				getInternalStoreStorage(side),
-				InventoryStorage.of(this, side)
-		));
+		Objects.requireNonNull(side);
+		if (exposedStorages[side.ordinal()] == null) {
+			exposedStorages[side.ordinal()] = new CombinedStorage<>(List.of(
+					new SidedUnitStorage(side),
+					InventoryStorage.of(this, side)
+			));
+		}
+		return exposedStorages[side.ordinal()];
+	}
+
+	private record StoredItems(ItemVariant variant, long count) {
+	}
+
+	// The stored items as one long counted slot, bulk transfers don't go through the input and output slots
+	private class UnitStorage extends SnapshotParticipant<StoredItems> implements SingleSlotStorage<ItemVariant> {
+		@Override
+		public long insert(ItemVariant insertedVariant, long maxAmount, TransactionContext transaction) {
+			StoragePreconditions.notBlankNotNegative(insertedVariant, maxAmount);
+			if (!isSameType(insertedVariant) && !(StorageUnitBaseBlockEntity.this.isEmpty() && !isLocked())) {
+				return 0;
+			}
+
+			long insertedAmount = Math.min(maxAmount, getCapacity() - storedCount);
+			if (insertedAmount > 0) {
+				updateSnapshots(transaction);
+				setStored(insertedVariant, storedCount + insertedAmount);
+			}
+			return insertedAmount;
+		}
+
+		@Override
+		public long extract(ItemVariant extractedVariant, long maxAmount, TransactionContext transaction) {
+			StoragePreconditions.notBlankNotNegative(extractedVariant, maxAmount);
+			if (!extractedVariant.equals(storedVariant)) {
+				return 0;
+			}
+
+			long extractedAmount = Math.min(maxAmount, storedCount);
+			if (extractedAmount > 0) {
+				updateSnapshots(transaction);
+				setStored(storedVariant, storedCount - extractedAmount);
+			}
+			return extractedAmount;
+		}
+
+		@Override
+		public boolean isResourceBlank() {
+			return storedVariant.isBlank();
+		}
+
+		@Override
+		public ItemVariant getResource() {
+			return storedVariant;
+		}
+
+		@Override
+		public long getAmount() {
+			return storedCount;
+		}
+
+		@Override
+		public long getCapacity() {
+			// The output slot counts towards the capacity
+			return maxCapacity - inventory.getStack(OUTPUT_SLOT).getCount();
+		}
+
+		@Override
+		protected StoredItems createSnapshot() {
+			return new StoredItems(storedVariant, storedCount);
+		}
+
+		@Override
+		protected void readSnapshot(StoredItems snapshot) {
+			setStored(snapshot.variant(), snapshot.count());
+		}
+
+		@Override
+		protected void onFinalCommit() {
+			storageChanged = true;
+			markDirty();
+		}
+	}
+
+	// Applies the slot configuration of the input and output slots to the side
+	private class SidedUnitStorage implements SingleSlotStorage<ItemVariant> {
+		private final Direction side;
+
+		private SidedUnitStorage(Direction side) {
+			this.side = side;
+		}
+
+		@Override
+		public long insert(ItemVariant insertedVariant, long maxAmount, TransactionContext transaction) {
+			if (!StorageUnitBaseBlockEntity.super.canInsert(INPUT_SLOT, ItemStack.EMPTY, side)) {
+				return 0;
+			}
+			return unitStorage.insert(insertedVariant, maxAmount, transaction);
+		}
+
+		@Override
+		public long extract(ItemVariant extractedVariant, long maxAmount, TransactionContext transaction) {
+			if (!canExtract(OUTPUT_SLOT, ItemStack.EMPTY, side)) {
+				return 0;
+			}
+			return unitStorage.extract(extractedVariant, maxAmount, transaction);
+		}
+
+		@Override
+		public boolean isResourceBlank() {
+			return unitStorage.isResourceBlank();
+		}
+
+		@Override
+		public ItemVariant getResource() {
+			return unitStorage.getResource();
+		}
+
+		@Override
+		public long getAmount() {
+			return unitStorage.getAmount();
+		}
+
+		@Override
+		public long getCapacity() {
+			return unitStorage.getCapacity();
+		}
 	}
 }
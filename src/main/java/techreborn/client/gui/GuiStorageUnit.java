@@ -63,7 +63,7 @@ public class GuiStorageUnit extends GuiBase<BuiltScreenHandler> {
 		builder.drawText(matrixStack, this, new TranslatableText("gui.techreborn.unit.out"), 140, 43, 4210752);
 
 
-		int storedAmount = storageEntity.storedAmount;
+		long storedAmount = storageEntity.storedAmount;
 
 		if (storedAmount == 0 && !storageEntity.isLocked()) {
 			textRenderer.draw(matrixStack, new TranslatableText("techreborn.tooltip.unit.empty"), 10, 20, 4210752);
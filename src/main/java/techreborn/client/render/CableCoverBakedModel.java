@@ -0,0 +1,164 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package techreborn.client.render;
+
+import net.fabricmc.fabric.api.renderer.v1.RendererAccess;
+import net.fabricmc.fabric.api.renderer.v1.material.BlendMode;
+import net.fabricmc.fabric.api.renderer.v1.material.MaterialFinder;
+import net.fabricmc.fabric.api.renderer.v1.material.RenderMaterial;
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+import net.fabricmc.fabric.api.renderer.v1.model.FabricBakedModel;
+import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
+import net.fabricmc.fabric.api.rendering.data.v1.RenderAttachedBlockView;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.RenderLayers;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.render.model.BakedQuad;
+import net.minecraft.client.render.model.json.ModelOverrideList;
+import net.minecraft.client.render.model.json.ModelTransformation;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.BlockRenderView;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Model of covered cables, emits the quads of the cover stored on the cable block entity so that covers are part of
+ * the chunk mesh. The cable itself is hidden inside the cover, as covers are always opaque full cubes.
+ */
+public class CableCoverBakedModel implements BakedModel, FabricBakedModel {
+
+	private static final BlockState DEFAULT_COVER = Blocks.OAK_PLANKS.getDefaultState();
+	private static final Direction[] CULL_FACES = new Direction[]{Direction.DOWN, Direction.UP, Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST, null};
+
+	// Filled up front, chunks are built on several threads
+	private final EnumMap<BlendMode, RenderMaterial> materials = new EnumMap<>(BlendMode.class);
+	// Same as above with diffuse shading disabled, for quads that have no shade
+	private final EnumMap<BlendMode, RenderMaterial> unshadedMaterials = new EnumMap<>(BlendMode.class);
+
+	public CableCoverBakedModel() {
+		MaterialFinder finder = RendererAccess.INSTANCE.getRenderer().materialFinder();
+		for (BlendMode blendMode : BlendMode.values()) {
+			materials.put(blendMode, finder.clear().blendMode(0, blendMode).find());
+			unshadedMaterials.put(blendMode, finder.clear().blendMode(0, blendMode).disableDiffuse(0, true).find());
+		}
+	}
+
+	private static BlockState getCover(BlockRenderView blockView, BlockPos pos) {
+		Object attachment = ((RenderAttachedBlockView) blockView).getBlockEntityRenderAttachment(pos);
+		return attachment instanceof BlockState cover ? cover : DEFAULT_COVER;
+	}
+
+
+	@Override
+	public void emitBlockQuads(BlockRenderView blockView, BlockState state, BlockPos pos, Supplier<Random> randomSupplier, RenderContext context) {
+		BlockState cover = getCover(blockView, pos);
+		MinecraftClient client = MinecraftClient.getInstance();
+		BakedModel coverModel = client.getBlockRenderManager().getModel(cover);
+		BlendMode blendMode = BlendMode.fromRenderLayer(RenderLayers.getBlockLayer(cover));
+		QuadEmitter emitter = context.getEmitter();
+
+		// The renderer would resolve tints against the cable, which has no color provider, so the cover tint is baked in
+		int tintIndex = -1;
+		int tint = -1;
+		for (Direction cullFace : CULL_FACES) {
+			for (BakedQuad quad : coverModel.getQuads(cover, cullFace, randomSupplier.get())) {
+				emitter.fromVanilla(quad.getVertexData(), 0, false);
+				emitter.material((quad.hasShade() ? materials : unshadedMaterials).get(blendMode));
+				emitter.cullFace(cullFace);
+				emitter.nominalFace(quad.getFace());
+				emitter.colorIndex(-1);
+				if (quad.hasColor()) {
+					if (quad.getColorIndex() != tintIndex) {
+						tintIndex = quad.getColorIndex();
+						tint = 0xFF000000 | client.getBlockColors().getColor(cover, blockView, pos, tintIndex);
+					}
+					emitter.spriteColor(0, tint, tint, tint, tint);
+				}
+				emitter.emit();
+			}
+		}
+	}
+
+	@Override
+	public void emitItemQuads(ItemStack stack, Supplier<Random> randomSupplier, RenderContext context) {
+
+	}
+
+	@Override
+	public List<BakedQuad> getQuads(@Nullable BlockState blockState, @Nullable Direction direction, Random random) {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public boolean isVanillaAdapter() {
+		return false;
+	}
+
+	@Override
+	public boolean useAmbientOcclusion() {
+		return true;
+	}
+
+	@Override
+	public boolean hasDepth() {
+		return false;
+	}
+
+	@Override
+	public boolean isSideLit() {
+		return false;
+	}
+
+	@Override
+	public boolean isBuiltin() {
+		return false;
+	}
+
+	@Override
+	public Sprite getParticleSprite() {
+		return MinecraftClient.getInstance().getBlockRenderManager().getModel(DEFAULT_COVER).getParticleSprite();
+	}
+
+	@Override
+	public ModelTransformation getTransformation() {
+		return ModelTransformation.NONE;
+	}
+
+	@Override
+	public ModelOverrideList getOverrides() {
+		return ModelOverrideList.EMPTY;
+	}
+}
@@ -24,26 +24,43 @@
 
 package techreborn.client.render.entitys;
 
+import com.google.common.collect.MapMaker;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.render.OverlayTexture;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.WorldRenderer;
+import net.minecraft.client.render.block.entity.BlockEntityRenderDispatcher;
 import net.minecraft.client.render.block.entity.BlockEntityRenderer;
 import net.minecraft.client.render.block.entity.BlockEntityRendererFactory;
 import net.minecraft.client.render.model.json.ModelTransformation;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.client.texture.SpriteAtlasTexture;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Matrix3f;
+import net.minecraft.util.math.Matrix4f;
+import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.math.Vec3f;
 import techreborn.blockentity.storage.item.StorageUnitBaseBlockEntity;
+import techreborn.config.TechRebornConfig;
+
+import java.util.Map;
 
 /**
  * Created by drcrazy on 07-Jan-20 for TechReborn-1.15.
  */
 public class StorageUnitRenderer implements BlockEntityRenderer<StorageUnitBaseBlockEntity> {
 
+	// Labels of the units in view, rebuilt when their stack or count changes
+	private final Map<StorageUnitBaseBlockEntity, Labels> labels = new MapMaker().weakKeys().makeMap();
+	private final BlockEntityRenderDispatcher dispatcher;
+
 	public StorageUnitRenderer(BlockEntityRendererFactory.Context ctx) {
+		this.dispatcher = ctx.getRenderDispatcher();
 	}
 
 	@Override
@@ -56,6 +73,23 @@ public class StorageUnitRenderer implements BlockEntityRenderer<StorageUnitBaseB
 			return;
 		}
 
+		double distance = dispatcher.camera.getPos().squaredDistanceTo(Vec3d.ofCenter(storage.getPos()));
+		int renderDistance = TechRebornConfig.storageUnitRenderDistance;
+		int iconDistance = Math.max(renderDistance, TechRebornConfig.storageUnitIconDistance);
+		if (distance > iconDistance * iconDistance) {
+			return;
+		}
+		int lightAbove = WorldRenderer.getLightmapCoordinates(storage.getWorld(), storage.getPos().offset(storage.getFacing()));
+
+		if (distance > renderDistance * renderDistance) {
+			// Flat icon rendering
+			matrices.push();
+			translateToFront(matrices, storage.getFacing());
+			renderIcon(stack, matrices, vertexConsumers, lightAbove);
+			matrices.pop();
+			return;
+		}
+
 		// Item rendering
 		matrices.push();
 		Direction direction = storage.getFacing();
@@ -66,15 +100,38 @@ public class StorageUnitRenderer implements BlockEntityRenderer<StorageUnitBaseB
 			case SOUTH -> matrices.translate(-1, 1, -2);
 			case EAST -> matrices.translate(-1, 1, 2);
 		}
-		int lightAbove = WorldRenderer.getLightmapCoordinates(storage.getWorld(), storage.getPos().offset(storage.getFacing()));
 		MinecraftClient.getInstance().getItemRenderer().renderItem(stack, ModelTransformation.Mode.FIXED, lightAbove, OverlayTexture.DEFAULT_UV, matrices, vertexConsumers, 0);
 		matrices.pop();
 
 		// Text rendering
 		matrices.push();
 		TextRenderer textRenderer = MinecraftClient.getInstance().textRenderer;
-		Direction facing = storage.getFacing();
+		translateToFront(matrices, storage.getFacing());
+
+		Labels unitLabels = labels.get(storage);
+		if (unitLabels == null || unitLabels.stack != stack || unitLabels.amount != storage.storedAmount) {
+			unitLabels = new Labels(textRenderer, stack, storage.storedAmount);
+			labels.put(storage, unitLabels);
+		}
 
+		// Render item count
+		textRenderer.draw(unitLabels.count, unitLabels.countX, -4f + 40, 0, false, matrices.peek().getPositionMatrix(), vertexConsumers, false, 0, light);
+
+		// Render name
+		textRenderer.draw(unitLabels.name, unitLabels.nameX, -4f - 40, 0, false, matrices.peek().getPositionMatrix(), vertexConsumers, false, 0, light);
+
+		matrices.pop();
+	}
+
+	@Override
+	public int getRenderDistance() {
+		return Math.max(TechRebornConfig.storageUnitRenderDistance, TechRebornConfig.storageUnitIconDistance);
+	}
+
+	/**
+	 * Moves to the front face of the unit, scaled so that 100 units are one block and y points down
+	 */
+	private static void translateToFront(MatrixStack matrices, Direction facing) {
 		// Render item only on horizontal facing #2183
 		if (Direction.Type.HORIZONTAL.test(facing) ){
 			matrices.translate(0.5, 0.5, 0.5); // Translate center
@@ -83,19 +140,38 @@ public class StorageUnitRenderer implements BlockEntityRenderer<StorageUnitBaseB
 		}
 
 		matrices.scale(-0.01f, -0.01F, -0.01f);
+	}
 
-		float xPosition;
+	private static void renderIcon(ItemStack stack, MatrixStack matrices, VertexConsumerProvider vertexConsumers, int light) {
+		Sprite sprite = MinecraftClient.getInstance().getItemRenderer().getModels().getModel(stack).getParticleSprite();
+		VertexConsumer consumer = vertexConsumers.getBuffer(RenderLayer.getEntityCutoutNoCull(SpriteAtlasTexture.BLOCK_ATLAS_TEXTURE));
+		Matrix4f position = matrices.peek().getPositionMatrix();
+		Matrix3f normal = matrices.peek().getNormalMatrix();
+		iconVertex(consumer, position, normal, -25, -25, sprite.getMinU(), sprite.getMinV(), light);
+		iconVertex(consumer, position, normal, -25, 25, sprite.getMinU(), sprite.getMaxV(), light);
+		iconVertex(consumer, position, normal, 25, 25, sprite.getMaxU(), sprite.getMaxV(), light);
+		iconVertex(consumer, position, normal, 25, -25, sprite.getMaxU(), sprite.getMinV(), light);
+	}
 
-		// Render item count
-		String count = String.valueOf(storage.storedAmount);
-		xPosition = (float) (-textRenderer.getWidth(count) / 2);
-		textRenderer.draw(count, xPosition, -4f + 40, 0, false, matrices.peek().getPositionMatrix(), vertexConsumers, false, 0, light);
+	private static void iconVertex(VertexConsumer consumer, Matrix4f position, Matrix3f normal, float x, float y, float u, float v, int light) {
+		consumer.vertex(position, x, y, 0).color(255, 255, 255, 255).texture(u, v).overlay(OverlayTexture.DEFAULT_UV).light(light).normal(normal, 0, 0, -1).next();
+	}
 
-		// Render name
-		String item = stack.getName().asTruncatedString(18);
-		xPosition = (float) (-textRenderer.getWidth(item) / 2);
-		textRenderer.draw(item, xPosition, -4f - 40, 0, false, matrices.peek().getPositionMatrix(), vertexConsumers, false, 0, light);
+	private static final class Labels {
+		private final ItemStack stack;
+		private final long amount;
+		private final String count;
+		private final float countX;
+		private final String name;
+		private final float nameX;
 
-		matrices.pop();
+		private Labels(TextRenderer textRenderer, ItemStack stack, long amount) {
+			this.stack = stack;
+			this.amount = amount;
+			this.count = String.valueOf(amount);
+			this.countX = (float) (-textRenderer.getWidth(count) / 2);
+			this.name = stack.getName().asTruncatedString(18);
+			this.nameX = (float) (-textRenderer.getWidth(name) / 2);
+		}
 	}
 }
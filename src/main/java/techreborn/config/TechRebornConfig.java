@@ -214,6 +214,9 @@ public class TechRebornConfig {
 	@Config(config = "items", category = "power", key = "industrialChainsawCost", comment = "Energy Cost for Industrial Chainsaw")
 	public static int industrialChainsawCost = 150;
 
+	@Config(config = "items", category = "general", key = "toolBlockBreakBudget", comment = "Maximum amount of blocks broken per tick by tree felling and AOE mining tools")
+	public static int toolBlockBreakBudget = 16;
+
 	@Config(config = "items", category = "power", key = "basicJackhammerCharge", comment = "Energy Capacity for Basic Jackhammer")
 	public static int basicJackhammerCharge = 10_000;
 
@@ -439,32 +442,38 @@ public class TechRebornConfig {
 	public static int electricFurnaceMaxEnergy = 1000;
 
 	@Config(config = "machines", category = "storage", key = "CrudeStorageUnitMaxStorage", comment = "Maximum amount of items a Crude Storage Unit can store")
-	public static int crudeStorageUnitMaxStorage = 2048;
+	public static long crudeStorageUnitMaxStorage = 2048;
 
 	@Config(config = "machines", category = "storage", key = "BasicStorageUnitMaxStorage", comment = "Maximum amount of items a Basic Storage Unit can store")
-	public static int basicStorageUnitMaxStorage = 8192;
+	public static long basicStorageUnitMaxStorage = 8192;
 
 	@Config(config = "machines", category = "storage", key = "BasicTankUnitCapacity", comment = "How much liquid a Basic Tank Unit can take (Value in buckets, 1000 Mb)")
 	public static int basicTankUnitCapacity = 35;
 
 	@Config(config = "machines", category = "storage", key = "AdvancedStorageMaxStorage", comment = "Maximum amount of items an Advanced Storage Unit can store")
-	public static int advancedStorageUnitMaxStorage = 32768;
+	public static long advancedStorageUnitMaxStorage = 32768;
 
 	@Config(config = "machines", category = "storage", key = "AdvancedTankUnitMaxStorage", comment = "How much liquid an Advanced Tank Unit can take (Value in buckets, 1000 Mb)")
 	public static int advancedTankUnitMaxStorage = 200;
 
 	@Config(config = "machines", category = "storage", key = "IndustrialStorageMaxStorage", comment = "Maximum amount of items an Industrial Storage Unit can store (Compat: >= 32768)")
-	public static int industrialStorageUnitMaxStorage = 65536;
+	public static long industrialStorageUnitMaxStorage = 65536;
 
 	@Config(config = "machines", category = "storage", key = "IndustrialTankUnitCapacity", comment = "How much liquid an Industrial Tank Unit can take (Value in buckets, 1000 Mb)")
 	public static int industrialTankUnitCapacity = 500;
 
 	@Config(config = "machines", category = "storage", key = "QuantumStorageUnitMaxStorage", comment = "Maximum amount of items a Quantum Storage Unit can store (Compat: == MAX_VALUE)")
-	public static int quantumStorageUnitMaxStorage = Integer.MAX_VALUE;
+	public static long quantumStorageUnitMaxStorage = Integer.MAX_VALUE;
 
 	@Config(config = "machines", category = "storage", key = "QuantumTankUnitCapacity", comment = "How much liquid a Quantum Tank Unit can take (Value in buckets, 1000 Mb)(Compat: == MAX_VALUE)")
 	public static int quantumTankUnitCapacity = Integer.MAX_VALUE / 1000;
 
+	@Config(config = "machines", category = "storage", key = "StorageUnitRenderDistance", comment = "Distance in blocks up to which storage units render their stored item and labels")
+	public static int storageUnitRenderDistance = 24;
+
+	@Config(config = "machines", category = "storage", key = "StorageUnitIconDistance", comment = "Distance in blocks up to which storage units render a flat icon of their stored item, past the render distance")
+	public static int storageUnitIconDistance = 48;
+
 	@Config(config = "machines", category = "charge_bench", key = "ChargeBenchMaxOutput", comment = "Charge Bench Max Output (Energy per tick)")
 	public static int chargeOMatBMaxOutput = 512;
 
@@ -299,10 +299,10 @@ public class TRContent {
 		public final Block block;
 
 		// How many blocks it can hold
-		public int capacity;
+		public long capacity;
 
 
-		StorageUnit(int capacity) {
+		StorageUnit(long capacity) {
 			name = this.toString().toLowerCase(Locale.ROOT);
 			block = new StorageUnitBlock(this);
 			this.capacity = capacity;
@@ -24,6 +24,10 @@
 
 package techreborn.items.tool.industrial;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.block.BlockState;
@@ -33,6 +37,7 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.item.ToolMaterials;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.tag.BlockTags;
 import net.minecraft.text.Text;
 import net.minecraft.util.ActionResult;
@@ -47,11 +52,11 @@ import reborncore.common.powerSystem.RcEnergyTier;
 import techreborn.config.TechRebornConfig;
 import techreborn.init.TRToolMaterials;
 import techreborn.items.tool.ChainsawItem;
+import techreborn.utils.BlockBreakingQueue;
 import techreborn.utils.MessageIDs;
 import techreborn.utils.TagUtils;
-import techreborn.utils.ToolsUtil;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.List;
 
 public class IndustrialChainsawItem extends ChainsawItem {
@@ -62,43 +67,50 @@ public class IndustrialChainsawItem extends ChainsawItem {
 		super(TRToolMaterials.INDUSTRIAL_CHAINSAW, TechRebornConfig.industrialChainsawCharge, RcEnergyTier.EXTREME, TechRebornConfig.industrialChainsawCost, 20F, 1.0F, Items.DIAMOND_AXE);
 	}
 
-	private void findWood(World world, BlockPos pos, List<BlockPos> wood, List<BlockPos> leaves) {
-		//Limit the amount of wood to be broken to 64 blocks.
-		if (wood.size() >= 64) {
-			return;
-		}
-		//Search 150 leaves for wood
-		if (leaves.size() >= 150) {
-			return;
-		}
-		for (Direction facing : SEARCH_ORDER) {
-			BlockPos checkPos = pos.offset(facing);
-			if (!wood.contains(checkPos) && !leaves.contains(checkPos)) {
+	private void findWood(World world, BlockPos pos, LongList wood, LongList leaves) {
+		LongSet visited = new LongOpenHashSet();
+		ArrayDeque<BlockPos> toSearch = new ArrayDeque<>();
+		visited.add(pos.asLong());
+		toSearch.push(pos);
+		while (!toSearch.isEmpty()) {
+			//Limit the amount of wood to be broken to 64 blocks.
+			//Search 150 leaves for wood
+			if (wood.size() >= 64 || leaves.size() >= 150) {
+				return;
+			}
+			BlockPos current = toSearch.pop();
+			for (Direction facing : SEARCH_ORDER) {
+				BlockPos checkPos = current.offset(facing);
+				if (!visited.add(checkPos.asLong())) {
+					continue;
+				}
 				BlockState state = world.getBlockState(checkPos);
 				if (TagUtils.hasTag(state.getBlock(), BlockTags.LOGS)) {
-					wood.add(checkPos);
-					findWood(world, checkPos, wood, leaves);
+					wood.add(checkPos.asLong());
+					toSearch.push(checkPos);
 				} else if (TagUtils.hasTag(state.getBlock(), BlockTags.LEAVES)) {
-					leaves.add(checkPos);
-					findWood(world, checkPos, wood, leaves);
+					leaves.add(checkPos.asLong());
+					toSearch.push(checkPos);
 				}
 			}
 		}
 	}
 
+	private static boolean isTreeBlock(BlockState state) {
+		return TagUtils.hasTag(state.getBlock(), BlockTags.LOGS) || TagUtils.hasTag(state.getBlock(), BlockTags.LEAVES);
+	}
+
 	//ChainsawItem
 	@Override
 	public boolean postMine(ItemStack stack, World worldIn, BlockState blockIn, BlockPos pos, LivingEntity entityLiving) {
-		List<BlockPos> wood = new ArrayList<>();
-		List<BlockPos> leaves = new ArrayList<>();
-		if (ItemUtils.isActive(stack)) {
+		if (ItemUtils.isActive(stack) && worldIn instanceof ServerWorld serverWorld && entityLiving instanceof PlayerEntity player) {
+			LongList wood = new LongArrayList();
+			LongList leaves = new LongArrayList();
 			findWood(worldIn, pos, wood, leaves);
-			wood.remove(pos);
-			wood.stream()
-					.filter(p -> tryUseEnergy(stack, cost))
-					.forEach(pos1 -> ToolsUtil.breakBlock(stack, worldIn, pos1, entityLiving, cost));
-			leaves.remove(pos);
-			leaves.forEach(pos1 -> ToolsUtil.breakBlock(stack, worldIn, pos1, entityLiving, 0));
+			BlockBreakingQueue.Job job = BlockBreakingQueue.create(serverWorld, player, stack, pos, IndustrialChainsawItem::isTreeBlock);
+			wood.forEach((long woodPos) -> job.add(woodPos, cost));
+			leaves.forEach((long leavesPos) -> job.add(leavesPos, 0));
+			job.submit();
 		}
 		return super.postMine(stack, worldIn, blockIn, pos, entityLiving);
 	}
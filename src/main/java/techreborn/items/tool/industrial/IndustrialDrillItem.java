@@ -34,6 +34,7 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemGroup;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.ToolMaterials;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.ActionResult;
 import net.minecraft.util.Hand;
@@ -49,6 +50,7 @@ import techreborn.init.TRContent;
 import techreborn.init.TRToolMaterials;
 import techreborn.items.tool.DrillItem;
 import techreborn.items.tool.MiningLevel;
+import techreborn.utils.BlockBreakingQueue;
 import techreborn.utils.InitUtils;
 import techreborn.utils.MessageIDs;
 import techreborn.utils.ToolsUtil;
@@ -80,6 +82,10 @@ public class IndustrialDrillItem extends DrillItem {
 		return !((originalHardness / blockHardness) > 10.0F);
 	}
 
+	private static boolean canStillBreak(BlockState blockState) {
+		return blockState.getMaterial() != Material.AIR && !blockState.getMaterial().isLiquid();
+	}
+
 	// DrillItem
 	@Override
 	public boolean postMine(ItemStack stack, World worldIn, BlockState stateIn, BlockPos pos, LivingEntity entityLiving) {
@@ -89,11 +95,16 @@ public class IndustrialDrillItem extends DrillItem {
 		if (!(entityLiving instanceof PlayerEntity playerIn)) {
 			return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
 		}
+		if (!(worldIn instanceof ServerWorld serverWorld)) {
+			return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
+		}
+		BlockBreakingQueue.Job job = BlockBreakingQueue.create(serverWorld, playerIn, stack, pos, IndustrialDrillItem::canStillBreak);
 		for (BlockPos additionalPos : ToolsUtil.getAOEMiningBlocks(worldIn, pos, entityLiving, 1)) {
 			if (shouldBreak(playerIn, worldIn, pos, additionalPos)) {
-				ToolsUtil.breakBlock(stack, worldIn, additionalPos, entityLiving, cost);
+				job.add(additionalPos, cost);
 			}
 		}
+		job.submit();
 
 		return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
 	}
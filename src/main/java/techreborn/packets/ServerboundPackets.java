@@ -77,7 +77,7 @@ public class ServerboundPackets {
 			server.execute(() -> {
 				BlockEntity BlockEntity = player.world.getBlockEntity(machinePos);
 				if (BlockEntity instanceof AutoCraftingTableBlockEntity) {
-					((AutoCraftingTableBlockEntity) BlockEntity).locked = locked;
+					((AutoCraftingTableBlockEntity) BlockEntity).setLocked(locked);
 				}
 			});
 		});
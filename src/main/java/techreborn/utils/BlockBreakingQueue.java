@@ -0,0 +1,215 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package techreborn.utils;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.enchantment.EnchantmentHelper;
+import net.minecraft.enchantment.Enchantments;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.stat.Stats;
+import net.minecraft.util.math.BlockPos;
+import reborncore.common.powerSystem.RcEnergyItem;
+import techreborn.config.TechRebornConfig;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Spreads the blocks broken by tree felling and AOE mining tools over several server ticks.
+ * At most {@link TechRebornConfig#toolBlockBreakBudget} blocks are broken per tick across all jobs,
+ * and the drops of each job are merged and spawned at the position of the block the player broke.
+ */
+public final class BlockBreakingQueue {
+	private static final ArrayDeque<Job> JOBS = new ArrayDeque<>();
+
+	private BlockBreakingQueue() {
+	}
+
+	/**
+	 * Creates a new job, blocks should be added to it before calling {@link Job#submit()}.
+	 *
+	 * @param world     World the blocks are in
+	 * @param player    Player breaking the blocks
+	 * @param tool      Powered tool used to break the blocks
+	 * @param origin    Position of the block originally broken by the player, merged drops are spawned there
+	 * @param canBreak  Checked again right before each block is broken, in case the world changed in the meantime
+	 * @return Job to add blocks to
+	 */
+	public static Job create(ServerWorld world, PlayerEntity player, ItemStack tool, BlockPos origin, Predicate<BlockState> canBreak) {
+		return new Job(world, player, tool, origin, canBreak);
+	}
+
+	private static void tick() {
+		int budget = Math.max(1, TechRebornConfig.toolBlockBreakBudget);
+		// Round-robin over the jobs so one big tree doesn't hold up everyone else.
+		while (budget > 0 && !JOBS.isEmpty()) {
+			Job job = JOBS.poll();
+			if (job.breakNext()) {
+				budget--;
+			}
+			if (job.isDone()) {
+				job.finish();
+			} else {
+				JOBS.add(job);
+			}
+		}
+	}
+
+	public static final class Job {
+		private final ServerWorld world;
+		private final PlayerEntity player;
+		private final ItemStack tool;
+		private final BlockPos origin;
+		private final Predicate<BlockState> canBreak;
+		private final LongArrayList positions = new LongArrayList();
+		private final IntArrayList costs = new IntArrayList();
+		private final List<ItemStack> drops = new ArrayList<>();
+		private final BlockPos.Mutable mutable = new BlockPos.Mutable();
+		private int index = 0;
+
+		private Job(ServerWorld world, PlayerEntity player, ItemStack tool, BlockPos origin, Predicate<BlockState> canBreak) {
+			this.world = world;
+			this.player = player;
+			this.tool = tool;
+			this.origin = origin.toImmutable();
+			this.canBreak = canBreak;
+		}
+
+		public Job add(long pos, int cost) {
+			positions.add(pos);
+			costs.add(cost);
+			return this;
+		}
+
+		public Job add(BlockPos pos, int cost) {
+			return add(pos.asLong(), cost);
+		}
+
+		public void submit() {
+			if (!positions.isEmpty()) {
+				JOBS.add(this);
+			}
+		}
+
+		private boolean isDone() {
+			return index >= positions.size() || !canContinue();
+		}
+
+		// The tool stack goes empty if the player moves it out of their hand, it is split rather than moved
+		private boolean canContinue() {
+			return !player.isRemoved()
+					&& !tool.isEmpty()
+					&& tool.getItem() instanceof RcEnergyItem
+					&& player.getMainHandStack() == tool;
+		}
+
+		/**
+		 * @return {@code true} if a block was actually broken
+		 */
+		private boolean breakNext() {
+			if (!canContinue()) {
+				return false;
+			}
+			BlockPos pos = mutable.set(positions.getLong(index));
+			int cost = costs.getInt(index);
+			index++;
+
+			if (!world.isChunkLoaded(pos)) {
+				return false;
+			}
+			BlockState blockState = world.getBlockState(pos);
+			if (!canBreak.test(blockState) || blockState.getHardness(world, pos) == -1.0F) {
+				return false;
+			}
+			if (world.random.nextInt(EnchantmentHelper.getLevel(Enchantments.UNBREAKING, tool) + 1) == 0) {
+				if (!((RcEnergyItem) tool.getItem()).tryUseEnergy(tool, cost)) {
+					return false;
+				}
+			}
+
+			// Same as Block.afterBreak, except the drops are collected instead of spawned
+			BlockEntity blockEntity = world.getBlockEntity(pos);
+			player.incrementStat(Stats.MINED.getOrCreateStat(blockState.getBlock()));
+			player.addExhaustion(0.005F);
+			for (ItemStack drop : Block.getDroppedStacks(blockState, world, pos, blockEntity, player, tool)) {
+				mergeDrop(drop);
+			}
+			blockState.onStacksDropped(world, pos, tool);
+
+			world.setBlockState(pos, Blocks.AIR.getDefaultState());
+			world.removeBlockEntity(pos);
+			return true;
+		}
+
+		private void mergeDrop(ItemStack drop) {
+			for (ItemStack stack : drops) {
+				if (drop.isEmpty()) {
+					return;
+				}
+				if (ItemStack.canCombine(stack, drop)) {
+					int moved = Math.min(drop.getCount(), stack.getMaxCount() - stack.getCount());
+					stack.increment(moved);
+					drop.decrement(moved);
+				}
+			}
+			if (!drop.isEmpty()) {
+				drops.add(drop);
+			}
+		}
+
+		private void finish() {
+			for (ItemStack drop : drops) {
+				Block.dropStack(world, origin, drop);
+			}
+			drops.clear();
+		}
+	}
+
+	static {
+		ServerTickEvents.END_SERVER_TICK.register(server -> tick());
+		ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
+			// Finish everything still queued so no blocks or drops are lost.
+			while (!JOBS.isEmpty()) {
+				Job job = JOBS.poll();
+				while (!job.isDone()) {
+					job.breakNext();
+				}
+				job.finish();
+			}
+		});
+	}
+}